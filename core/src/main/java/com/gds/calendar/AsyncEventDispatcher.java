@@ -0,0 +1,339 @@
+package com.gds.calendar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A calendar listener that moves event dispatch off the mutation thread. Registered with one or more calendars in
+ * place of the listeners themselves, it queues each event in a bounded ring buffer and returns at once, a dispatcher
+ * thread drains the buffer and notifies the listeners registered with the dispatcher. A slow listener therefore delays
+ * only other listeners, never the calendar writer.
+ * <p>
+ * The ring buffer is lock-free, writers claim slots with a compare-and-set on a sequence, in the manner of a bounded
+ * multi-producer queue, so events from calendars written on different threads can share one dispatcher. The
+ * dispatcher delivers consecutive events for the same calendar together through LocalDateCalendarListener.events(...),
+ * a listener that overrides it handles a run of changes in one call.
+ * <p>
+ * When the buffer is full the back-pressure mode decides what happens to a new event. BLOCK waits for space,
+ * DROP_OLDEST discards the oldest queued event and COALESCE discards the new event but remembers that its calendar has
+ * changed, once the dispatcher has caught up it delivers a single EVENTS_COALESCED event per such calendar, telling
+ * listeners to re-read the calendar rather than rely on individual changes. Memory is bounded in every mode.
+ * <p>
+ * Listeners are notified after the change, contexts refer to the calendar as it is when the listener runs, which may
+ * include later changes. A listener that throws does not stop the dispatcher, the exception is passed to the
+ * dispatcher thread's uncaught exception handler. The lag of each listener, the events queued for it but not yet
+ * delivered, is available from getLag(...).
+ * <p>
+ * A closed dispatcher that is still registered with a calendar never fails the calendar's mutations, events it
+ * receives after close() are discarded and counted by getRejectedEvents().
+ */
+public final class AsyncEventDispatcher implements LocalDateCalendarListener, AutoCloseable {
+
+    /**
+     * What to do with an event when the ring buffer is full.
+     */
+    public enum BackPressure {
+
+        /**
+         * The calendar writer waits until the dispatcher frees a slot. A listener that writes to a calendar this
+         * dispatcher is registered with must not be used in this mode, the dispatcher would wait on itself.
+         */
+        BLOCK,
+
+        /**
+         * The oldest queued event is discarded to make room for the new event.
+         */
+        DROP_OLDEST,
+
+        /**
+         * The new event is discarded and its calendar is later reported by a single EVENTS_COALESCED event.
+         */
+        COALESCE
+    }
+
+    private static final long BLOCK_PAUSE_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private final BackPressure backPressure;
+    private final int mask;
+    private final AtomicReferenceArray<ChangeEventContext> events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Map<LocalDateCalendarView, AtomicLong> overflow = new ConcurrentHashMap<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // The events being gathered for delivery, only used by the dispatcher thread.
+    private final List<ChangeEventContext> run = new ArrayList<>();
+    private final Thread dispatcher;
+    // The number of events the dispatcher has taken for delivery, only written by the dispatcher thread.
+    private volatile long taken;
+    private volatile boolean running = true;
+    private volatile boolean sleeping;
+
+    /**
+     * Create a dispatcher and start its dispatcher thread, a daemon thread.
+     *
+     * @param capacity     the minimum number of events the ring buffer holds, rounded up to a power of two.
+     * @param backPressure what to do with an event when the ring buffer is full.
+     * @throws IllegalArgumentException if backPressure is null.
+     * @throws IllegalStateException    if capacity is less than or equal to zero or more than 2^30.
+     */
+    public AsyncEventDispatcher(final int capacity, final BackPressure backPressure) {
+
+        notNull(backPressure, "Mandatory argument 'backPressure' is missing.");
+        state(capacity > 0 && capacity <= 1 << 30, "Argument 'capacity' must be > 0 and <= 2^30");
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.backPressure = backPressure;
+        this.mask = size - 1;
+        this.events = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int slot = 0; slot < size; slot++)
+            sequences.set(slot, slot);
+        this.dispatcher = new Thread(this::dispatch, "calendar-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Register a listener to be notified, on the dispatcher thread, of the events this dispatcher receives.
+     * Listeners may be registered while events are being dispatched, a new listener receives the events dispatched
+     * after it is registered.
+     *
+     * @param listener an implementation of the listener interface.
+     * @return the dispatcher instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public AsyncEventDispatcher register(final LocalDateCalendarListener listener) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        subscribers.add(new Subscriber(listener, taken));
+        return this;
+    }
+
+    /**
+     * Queue an event for dispatch, applying the back-pressure mode if the ring buffer is full. An event received
+     * once the dispatcher has been closed, including by a writer waiting for space in BLOCK mode, is discarded.
+     *
+     * @throws IllegalArgumentException if the context is null.
+     */
+    @Override
+    public void event(final ChangeEventContext context) {
+
+        notNull(context, "Mandatory argument 'context' is missing.");
+        if (!running) {
+            rejected.incrementAndGet();
+            return;
+        }
+        while (!offer(context)) {
+            if (backPressure == BackPressure.DROP_OLDEST) {
+                if (poll() != null)
+                    dropped.incrementAndGet();
+            } else if (backPressure == BackPressure.COALESCE) {
+                overflow.computeIfAbsent(context.getCalendarView(), calendar -> new AtomicLong()).incrementAndGet();
+                coalesced.incrementAndGet();
+                wake();
+                return;
+            } else {
+                if (!running) {
+                    rejected.incrementAndGet();
+                    return;
+                }
+                wake();
+                LockSupport.parkNanos(this, BLOCK_PAUSE_NANOS);
+            }
+        }
+        wake();
+    }
+
+    /**
+     * The number of events queued for the supplied listener that it has not yet been notified of, events discarded
+     * by the back-pressure mode are not counted.
+     *
+     * @param listener a listener registered with this dispatcher.
+     * @return the listener's lag in events.
+     * @throws IllegalArgumentException if the listener is not registered with this dispatcher.
+     */
+    public long getLag(final LocalDateCalendarListener listener) {
+
+        for (final Subscriber subscriber : subscribers)
+            if (subscriber.listener == listener)
+                return Math.max(0, tail.get() - head.get() + taken - subscriber.delivered);
+        throw new IllegalArgumentException("Listener supplied is not registered with this dispatcher.");
+    }
+
+    /**
+     * The number of queued events discarded by the DROP_OLDEST back-pressure mode.
+     */
+    public long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    /**
+     * The number of events discarded by the COALESCE back-pressure mode, each calendar concerned is reported by an
+     * EVENTS_COALESCED event.
+     */
+    public long getCoalescedEvents() {
+        return coalesced.get();
+    }
+
+    /**
+     * The number of events discarded because they were received after the dispatcher was closed.
+     */
+    public long getRejectedEvents() {
+        return rejected.get();
+    }
+
+    /**
+     * Stop accepting events, deliver the events already queued and stop the dispatcher thread. Waits for the
+     * dispatcher thread to finish unless called from the dispatcher thread itself.
+     */
+    @Override
+    public void close() {
+
+        running = false;
+        LockSupport.unpark(dispatcher);
+        if (Thread.currentThread() == dispatcher)
+            return;
+        boolean interrupted = false;
+        while (dispatcher.isAlive()) {
+            try {
+                dispatcher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private boolean offer(final ChangeEventContext context) {
+
+        while (true) {
+            final long position = tail.get();
+            final int slot = (int) position & mask;
+            final long available = sequences.get(slot) - position;
+            if (available < 0)
+                return false;
+            if (available == 0 && tail.compareAndSet(position, position + 1)) {
+                events.set(slot, context);
+                sequences.set(slot, position + 1);
+                return true;
+            }
+        }
+    }
+
+    private ChangeEventContext poll() {
+
+        while (true) {
+            final long position = head.get();
+            final int slot = (int) position & mask;
+            final long available = sequences.get(slot) - (position + 1);
+            if (available < 0)
+                return null;
+            if (available == 0 && head.compareAndSet(position, position + 1)) {
+                final ChangeEventContext context = events.getAndSet(slot, null);
+                sequences.set(slot, position + mask + 1);
+                return context;
+            }
+        }
+    }
+
+    private void wake() {
+        if (sleeping)
+            LockSupport.unpark(dispatcher);
+    }
+
+    private void dispatch() {
+
+        while (true) {
+            final ChangeEventContext context = poll();
+            if (context != null) {
+                if (!run.isEmpty() && run.get(0).getCalendarView() != context.getCalendarView())
+                    deliver();
+                run.add(context);
+                taken++;
+                if (run.size() > mask)
+                    deliver();
+                continue;
+            }
+            // Events queued while a run was being delivered are older than any overflow, deliver them first.
+            if (!run.isEmpty()) {
+                deliver();
+                continue;
+            }
+            if (!overflow.isEmpty()) {
+                deliverOverflow();
+                continue;
+            }
+            if (!running && head.get() == tail.get())
+                return;
+            sleeping = true;
+            if (running && head.get() == tail.get() && overflow.isEmpty())
+                LockSupport.park(this);
+            sleeping = false;
+        }
+    }
+
+    private void deliverOverflow() {
+
+        for (final Iterator<Map.Entry<LocalDateCalendarView, AtomicLong>> entries = overflow.entrySet().iterator();
+             entries.hasNext(); ) {
+            final Map.Entry<LocalDateCalendarView, AtomicLong> entry = entries.next();
+            entries.remove();
+            final long count = entry.getValue().get();
+            run.add(LocalDateCalendar.context(CalendarChangeEvent.EVENTS_COALESCED,
+                    () -> count + " events coalesced, calendar changed.", entry.getKey()));
+            taken++;
+            deliver();
+        }
+    }
+
+    /**
+     * Notify every listener of the gathered run of events for one calendar, and then empty the run.
+     */
+    private void deliver() {
+
+        if (run.isEmpty())
+            return;
+        final List<ChangeEventContext> contexts = Collections.unmodifiableList(run);
+        for (final Subscriber subscriber : subscribers) {
+            try {
+                subscriber.listener.events(contexts);
+            } catch (RuntimeException e) {
+                dispatcher.getUncaughtExceptionHandler().uncaughtException(dispatcher, e);
+            }
+            subscriber.delivered = taken;
+        }
+        run.clear();
+    }
+
+    private static final class Subscriber {
+
+        private final LocalDateCalendarListener listener;
+        // The value of 'taken' when the listener was last notified, only written by the dispatcher thread.
+        private volatile long delivered;
+
+        private Subscriber(final LocalDateCalendarListener listener, final long delivered) {
+
+            this.listener = listener;
+            this.delivered = delivered;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.gds.calendar;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Bulk calendar queries partitioned across a ForkJoinPool. A batch of days is split into index ranges that are
+ * answered in parallel with LocalDateCalendarView.containsAll(long[], int, int, boolean[]), each range writes only
+ * its own elements of the result array, so no synchronisation is needed between the tasks.
+ * <p>
+ * The calendar must support concurrent queries. A LocalDateCalendar or RollingLocalDateCalendar that is not modified
+ * during the batch, a FrozenCalendar and a CompositeCalendar over unmodified members do. A ConcurrentLocalDateCalendar
+ * is answered from the single snapshot that is current when the batch starts. A RuleBasedCalendar does not support
+ * concurrent queries and should be expanded with toLocalDateCalendar(...) first.
+ */
+public final class BatchQueries {
+
+    // Below this many days a batch is answered on the calling thread, splitting further costs more than it saves.
+    static final int MIN_SPLIT_DAYS = 1 << 15;
+
+    private BatchQueries() {
+    }
+
+    /**
+     * Test each of the supplied days for inclusion in the calendar, in parallel on the common ForkJoinPool. See
+     * containsAll(ForkJoinPool, LocalDateCalendarView, long[], boolean[]).
+     */
+    public static int containsAll(final LocalDateCalendarView calendar, final long[] epochDays,
+                                  final boolean[] result) {
+        return containsAll(ForkJoinPool.commonPool(), calendar, epochDays, result);
+    }
+
+    /**
+     * Test each of the supplied days for inclusion in the calendar, result[i] is set to
+     * calendar.isIncluded(epochDays[i]). The batch is partitioned across the supplied pool.
+     *
+     * @param pool      the pool that answers the batch.
+     * @param calendar  the calendar to test the days against.
+     * @param epochDays the days to test as epoch-day values.
+     * @param result    receives the result for each day, it must be at least as long as epochDays.
+     * @return the number of days that are included.
+     * @throws IllegalArgumentException if any argument is null.
+     * @throws IllegalStateException    if result is shorter than epochDays.
+     */
+    public static int containsAll(final ForkJoinPool pool, final LocalDateCalendarView calendar,
+                                  final long[] epochDays, final boolean[] result) {
+
+        notNull(pool, "Mandatory argument 'pool' is missing.");
+        notNull(calendar, "Mandatory argument 'calendar' is missing.");
+        notNull(epochDays, "Mandatory argument 'epochDays' is missing.");
+        notNull(result, "Mandatory argument 'result' is missing.");
+        state(result.length >= epochDays.length, "Argument 'result' must be at least as long as 'epochDays'");
+        final LocalDateCalendarView view = calendar instanceof SnapshotCalendarView
+                ? ((SnapshotCalendarView) calendar).current() : calendar;
+        if (epochDays.length < MIN_SPLIT_DAYS)
+            return view.containsAll(epochDays, 0, epochDays.length, result);
+        return pool.invoke(new ContainsAll(view, epochDays, 0, epochDays.length, result));
+    }
+
+    private static final class ContainsAll extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final LocalDateCalendarView calendar;
+        private final long[] epochDays;
+        private final int from;
+        private final int to;
+        private final boolean[] result;
+
+        private ContainsAll(final LocalDateCalendarView calendar, final long[] epochDays, final int from,
+                            final int to, final boolean[] result) {
+
+            this.calendar = calendar;
+            this.epochDays = epochDays;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+        }
+
+        @Override
+        protected Integer compute() {
+
+            if (to - from < MIN_SPLIT_DAYS * 2)
+                return calendar.containsAll(epochDays, from, to, result);
+            final int middle = (from + to) >>> 1;
+            final ContainsAll prefix = new ContainsAll(calendar, epochDays, from, middle, result);
+            prefix.fork();
+            final int suffixCount = new ContainsAll(calendar, epochDays, middle, to, result).compute();
+            return prefix.join() + suffixCount;
+        }
+    }
+}
@@ -4,15 +4,23 @@ package com.gds.calendar;
  * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
  * @since 21/08/2017
  *
- * Events generated by the LocalDateCalendar.
+ * Events generated by the LocalDateCalendar. DATES_EVICTED is raised by the RollingLocalDateCalendar when days fall out
+ * of its window. RANGE_CHANGED is raised when a calendar's start or end date is extended. BATCH_APPLIED is raised once
+ * for a batch of changes, its context reports the net added and removed dates. EVENTS_COALESCED is raised by an
+ * AsyncEventDispatcher in place of events it could not queue, the calendar has changed and should be re-read.
  */
 public enum CalendarChangeEvent {
 
     INITIALISED,
     DATE_ADDED,
     DATE_REMOVED,
+    DATES_ADDED,
     DATES_REMOVED,
+    DATES_EVICTED,
     CALENDAR_ADDED,
     CALENDAR_REMOVED,
-    DAY_OF_WEEK_REMOVED
+    DAY_OF_WEEK_REMOVED,
+    RANGE_CHANGED,
+    BATCH_APPLIED,
+    EVENTS_COALESCED
 }
\ No newline at end of file
@@ -0,0 +1,636 @@
+package com.gds.calendar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * An append-only journal of the changes made to a LocalDateCalendar, so that the calendar can be restored at startup
+ * with load(...) rather than rebuilt from its sources. The journal is a calendar listener, each event is appended to
+ * the journal directory as a compact binary record holding the event type and its dates, dates are held as variable
+ * length deltas, typically one byte per date. Events whose dates do not describe the change, such as RANGE_CHANGED
+ * and DAY_OF_WEEK_REMOVED, are recorded with an image of the calendar instead, included days as run lengths, about
+ * two bytes per week.
+ * <p>
+ * Records are written through a FileChannel with group commit, they are buffered and the buffer is written and
+ * forced to the storage device in one operation once groupCommitBytes are pending, or on flush() or close(). A crash
+ * loses at most the records buffered since the last commit. Each record carries its length and a CRC32 checksum, a
+ * record torn by a crash ends the replay of its segment.
+ * <p>
+ * The directory holds a snapshot, an image of the calendar, and the log segments written since the snapshot was
+ * taken. Once the current segment grows beyond compactionBytes the journal is compacted, a new snapshot is written
+ * and atomically replaces the old one, the segments it covers are deleted and a new segment is started. Opening a
+ * journal compacts, the calendar's state is the starting point of the new journal.
+ * <p>
+ * Events are recorded on the thread that changes the calendar, so a journal that cannot be written does not throw
+ * from event(...). It stops recording instead, the failure is reported by getFailure() and thrown by the next
+ * flush(), compact() or close(). The records committed before the failure can still be loaded.
+ * <p>
+ * A journal records one calendar, the calendar supplied to open(...), and registers itself with it.
+ */
+public final class CalendarJournal implements LocalDateCalendarListener, AutoCloseable {
+
+    /**
+     * The number of pending bytes that triggers a group commit by default.
+     */
+    public static final int DEF_GROUP_COMMIT_BYTES = 64 * 1024;
+
+    /**
+     * The segment size, in bytes, that triggers a compaction by default.
+     */
+    public static final long DEF_COMPACTION_BYTES = 16L * 1024 * 1024;
+
+    private static final String SNAPSHOT_FILE = "calendar.snapshot";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int SEGMENT_MAGIC = 0x43414C4A;
+    private static final int SNAPSHOT_MAGIC = 0x43414C53;
+    // Event types are recorded by ordinal, the version changes whenever CalendarChangeEvent or the format changes.
+    private static final byte VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = 5;
+    private static final int SNAPSHOT_HEADER_BYTES = 13;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final CalendarChangeEvent[] EVENTS = CalendarChangeEvent.values();
+    // Events recorded with an image of the calendar, their dates alone cannot reproduce the change.
+    private static final EnumSet<CalendarChangeEvent> IMAGED = EnumSet.of(CalendarChangeEvent.INITIALISED,
+            CalendarChangeEvent.RANGE_CHANGED, CalendarChangeEvent.DAY_OF_WEEK_REMOVED,
+            CalendarChangeEvent.EVENTS_COALESCED);
+    private static final EnumSet<CalendarChangeEvent> ADDING = EnumSet.of(CalendarChangeEvent.DATE_ADDED,
+            CalendarChangeEvent.DATES_ADDED);
+    private static final EnumSet<CalendarChangeEvent> REMOVING = EnumSet.of(CalendarChangeEvent.DATE_REMOVED,
+            CalendarChangeEvent.DATES_REMOVED, CalendarChangeEvent.DATES_EVICTED);
+
+    private final Path directory;
+    private final LocalDateCalendar calendar;
+    private final int groupCommitBytes;
+    private final long compactionBytes;
+    private final Encoder pending = new Encoder();
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentBytes;
+    private boolean open = true;
+    private volatile IOException failure;
+
+    private CalendarJournal(final Path directory, final LocalDateCalendar calendar, final int groupCommitBytes,
+                            final long compactionBytes, final long segmentNumber) {
+
+        this.directory = directory;
+        this.calendar = calendar;
+        this.groupCommitBytes = groupCommitBytes;
+        this.compactionBytes = compactionBytes;
+        this.segmentNumber = segmentNumber;
+    }
+
+    /**
+     * Start journaling the supplied calendar with the default group commit and compaction sizes, see
+     * open(Path, LocalDateCalendar, int, long).
+     */
+    public static CalendarJournal open(final Path directory, final LocalDateCalendar calendar) {
+        return open(directory, calendar, DEF_GROUP_COMMIT_BYTES, DEF_COMPACTION_BYTES);
+    }
+
+    /**
+     * Start journaling the supplied calendar. The calendar's current state is written as the journal's snapshot,
+     * replacing any journal already in the directory, and the journal registers itself with the calendar. A
+     * calendar restored with load(...) is typically journaled to the same directory again.
+     *
+     * @param directory        the journal directory, created if it does not exist.
+     * @param calendar         the calendar to journal.
+     * @param groupCommitBytes the number of pending bytes that triggers a group commit.
+     * @param compactionBytes  the segment size, in bytes, that triggers a compaction.
+     * @return the journal, registered with the calendar.
+     * @throws IllegalArgumentException if directory or calendar is null.
+     * @throws IllegalStateException    if groupCommitBytes or compactionBytes is less than or equal to zero, or the
+     *                                  journal cannot be written.
+     */
+    public static CalendarJournal open(final Path directory, final LocalDateCalendar calendar,
+                                       final int groupCommitBytes, final long compactionBytes) {
+
+        notNull(directory, "Mandatory argument 'directory' is missing.");
+        notNull(calendar, "Mandatory argument 'calendar' is missing.");
+        state(groupCommitBytes > 0, "Argument 'groupCommitBytes' must be > 0");
+        state(compactionBytes > 0, "Argument 'compactionBytes' must be > 0");
+        try {
+            Files.createDirectories(directory);
+            long last = 0;
+            for (final long number : segmentNumbers(directory))
+                last = Math.max(last, number);
+            final CalendarJournal journal = new CalendarJournal(directory, calendar, groupCommitBytes,
+                    compactionBytes, last);
+            journal.compact();
+            calendar.register(journal);
+            return journal;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to open calendar journal in [" + directory + "].", e);
+        }
+    }
+
+    /**
+     * Restore a calendar from a journal directory, the snapshot is loaded and the segments written since it was
+     * taken are replayed in order. The calendar has no listeners and no events are raised.
+     *
+     * @param directory the journal directory.
+     * @return the restored calendar.
+     * @throws IllegalArgumentException if directory is null.
+     * @throws IllegalStateException    if the directory holds no snapshot, or the journal cannot be read or is
+     *                                  corrupt other than by a torn record.
+     */
+    public static LocalDateCalendar load(final Path directory) {
+
+        notNull(directory, "Mandatory argument 'directory' is missing.");
+        final Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        state(Files.exists(snapshot), "No calendar snapshot in journal directory [" + directory + "].");
+        try {
+            final ByteBuffer image = read(snapshot);
+            state(image.remaining() >= SNAPSHOT_HEADER_BYTES && image.getInt() == SNAPSHOT_MAGIC
+                    && image.get() == VERSION, "Calendar snapshot [" + snapshot + "] is not readable.");
+            final long firstSegment = image.getLong();
+            final ByteBuffer record = nextRecord(image);
+            state(record != null, "Calendar snapshot [" + snapshot + "] is incomplete.");
+            LocalDateCalendar calendar = replay(record, null);
+            for (final long number : segmentNumbers(directory)) {
+                if (number < firstSegment)
+                    continue;
+                final ByteBuffer records = read(segmentFile(directory, number));
+                if (records.remaining() < SEGMENT_HEADER_BYTES || records.getInt() != SEGMENT_MAGIC
+                        || records.get() != VERSION)
+                    continue;
+                for (ByteBuffer next = nextRecord(records); next != null; next = nextRecord(records))
+                    calendar = replay(next, calendar);
+            }
+            return calendar;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load calendar journal from [" + directory + "].", e);
+        }
+    }
+
+    /**
+     * Append the event to the journal, committing the pending records once groupCommitBytes are pending. Events are
+     * ignored once the journal has failed, see getFailure().
+     *
+     * @throws IllegalStateException if the journal has been closed.
+     */
+    @Override
+    public synchronized void event(final ChangeEventContext context) {
+
+        state(open, "Journal is closed");
+        if (failure != null)
+            return;
+        final CalendarChangeEvent event = context.getCalendarChangeEvent();
+        final int start = pending.beginRecord();
+        pending.writeByte(event.ordinal());
+        if (IMAGED.contains(event)) {
+            writeImage(pending, calendar);
+        } else if (event == CalendarChangeEvent.BATCH_APPLIED) {
+            writeDates(pending, context.getAddedDates());
+            writeDates(pending, context.getRemovedDates());
+        } else {
+            writeDates(pending, context.getDates());
+        }
+        pending.endRecord(start);
+        if (pending.size() >= groupCommitBytes) {
+            try {
+                commit();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    /**
+     * Write the pending records to the current segment and force them to the storage device, as a single group
+     * commit. Compacts the journal if the segment has grown beyond compactionBytes.
+     *
+     * @throws IllegalStateException if the journal has been closed, has failed or cannot be written.
+     */
+    public synchronized void flush() {
+
+        state(open, "Journal is closed");
+        checkFailure();
+        if (pending.size() == 0)
+            return;
+        try {
+            commit();
+        } catch (IOException e) {
+            failure = e;
+            throw new IllegalStateException("Unable to write calendar journal in [" + directory + "].", e);
+        }
+    }
+
+    /**
+     * Write a snapshot of the calendar, replacing the journal written so far, and start a new segment. Pending
+     * records are discarded, the snapshot already reflects them.
+     *
+     * @throws IllegalStateException if the journal has been closed, has failed or cannot be written.
+     */
+    public synchronized void compact() {
+
+        state(open, "Journal is closed");
+        checkFailure();
+        try {
+            compactSegments();
+        } catch (IOException e) {
+            failure = e;
+            throw new IllegalStateException("Unable to compact calendar journal in [" + directory + "].", e);
+        }
+    }
+
+    /**
+     * The failure that stopped this journal from recording events, if any. Once failed a journal records nothing
+     * more, the calendar should be journaled afresh with open(...).
+     *
+     * @return the failure, empty while the journal is recording.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    /**
+     * Commit the pending records, unregister from the calendar and close the current segment. Closing a closed
+     * journal has no effect.
+     *
+     * @throws IllegalStateException if the journal has failed or cannot be written, the journal is closed regardless.
+     */
+    @Override
+    public synchronized void close() {
+
+        if (!open)
+            return;
+        calendar.unregister(this);
+        try {
+            flush();
+        } finally {
+            open = false;
+            try {
+                segment.close();
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to close calendar journal in [" + directory + "].", e);
+            }
+        }
+    }
+
+    private void checkFailure() {
+
+        if (failure != null)
+            throw new IllegalStateException("Calendar journal in [" + directory + "] has failed.", failure);
+    }
+
+    private void commit() throws IOException {
+
+        segmentBytes += writeFully(segment, pending.buffer());
+        segment.force(false);
+        pending.clear();
+        if (segmentBytes >= compactionBytes)
+            compactSegments();
+    }
+
+    /**
+     * Write the snapshot and the header of the next segment, only then switch to the next segment, so the journal is
+     * left as it was if either cannot be written, and finally delete the segments the snapshot covers.
+     */
+    private void compactSegments() throws IOException {
+
+        final long nextSegment = segmentNumber + 1;
+        final Encoder snapshot = new Encoder();
+        snapshot.writeInt(SNAPSHOT_MAGIC);
+        snapshot.writeByte(VERSION);
+        snapshot.writeLong(nextSegment);
+        final int start = snapshot.beginRecord();
+        snapshot.writeByte(CalendarChangeEvent.INITIALISED.ordinal());
+        writeImage(snapshot, calendar);
+        snapshot.endRecord(start);
+        final Path written = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (final FileChannel channel = FileChannel.open(written, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, snapshot.buffer());
+            channel.force(true);
+        }
+        final Path nextFile = segmentFile(directory, nextSegment);
+        final FileChannel next = FileChannel.open(nextFile, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        final int headerBytes;
+        try {
+            final Encoder header = new Encoder();
+            header.writeInt(SEGMENT_MAGIC);
+            header.writeByte(VERSION);
+            headerBytes = writeFully(next, header.buffer());
+            next.force(true);
+            Files.move(written, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                next.close();
+                Files.deleteIfExists(nextFile);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        forceDirectory(directory);
+        final FileChannel previous = segment;
+        segment = next;
+        segmentNumber = nextSegment;
+        segmentBytes = headerBytes;
+        pending.clear();
+        if (previous != null)
+            previous.close();
+        for (final long number : segmentNumbers(directory))
+            if (number < nextSegment)
+                Files.delete(segmentFile(directory, number));
+        forceDirectory(directory);
+    }
+
+    /**
+     * Apply a record to the calendar, returning the calendar, a new calendar when the record holds an image.
+     */
+    private static LocalDateCalendar replay(final ByteBuffer record, final LocalDateCalendar calendar) {
+
+        final int ordinal = record.get();
+        state(ordinal >= 0 && ordinal < EVENTS.length, "Calendar journal record has an unknown event type.");
+        final CalendarChangeEvent event = EVENTS[ordinal];
+        if (IMAGED.contains(event))
+            return readImage(record);
+        state(calendar != null, "Calendar journal record precedes the calendar image.");
+        final DayBitmap days = calendar.days();
+        long day = 0;
+        if (ADDING.contains(event) || event == CalendarChangeEvent.BATCH_APPLIED) {
+            for (int count = readVarint(record); count > 0; count--) {
+                day += readZigZag(record);
+                state(days.inRange(day), "Calendar journal record is outside of the calendar range.");
+                days.add(day);
+            }
+        }
+        day = 0;
+        if (REMOVING.contains(event) || event == CalendarChangeEvent.BATCH_APPLIED) {
+            for (int count = readVarint(record); count > 0; count--) {
+                day += readZigZag(record);
+                days.remove(day);
+            }
+        }
+        return calendar;
+    }
+
+    /**
+     * Write the calendar range and name and its included days as alternating run lengths of excluded and included
+     * days.
+     */
+    private static void writeImage(final Encoder encoder, final LocalDateCalendar calendar) {
+
+        final DayBitmap days = calendar.days();
+        final byte[] name = calendar.getName().getBytes(StandardCharsets.UTF_8);
+        encoder.writeZigZag(days.getLastDay());
+        encoder.writeVarint((int) (days.getLastDay() - days.getFirstDay() + 1));
+        encoder.writeVarint(name.length);
+        encoder.writeBytes(name);
+        for (long day = days.getFirstDay(), from = days.next(day); from != DayBitmap.NO_DAY; from = days.next(day)) {
+            long to = from;
+            while (to <= days.getLastDay() && days.contains(to))
+                to++;
+            encoder.writeVarint((int) (from - day));
+            encoder.writeVarint((int) (to - from));
+            day = to;
+        }
+    }
+
+    private static LocalDateCalendar readImage(final ByteBuffer record) {
+
+        final long lastDay = readZigZag(record);
+        final int period = readVarint(record);
+        final byte[] name = new byte[readVarint(record)];
+        record.get(name);
+        final LocalDateCalendar calendar = LocalDateCalendar.emptyOver(LocalDate.ofEpochDay(lastDay),
+                new String(name, StandardCharsets.UTF_8), period);
+        final DayBitmap days = calendar.days();
+        long day = days.getFirstDay();
+        while (record.hasRemaining()) {
+            day += readVarint(record);
+            final long to = day + readVarint(record);
+            state(to <= lastDay + 1, "Calendar journal image is outside of the calendar range.");
+            for (; day < to; day++)
+                days.add(day);
+        }
+        return calendar;
+    }
+
+    /**
+     * Write a list of dates as a count followed by the first epoch day and the differences between successive days.
+     */
+    private static void writeDates(final Encoder encoder, final List<LocalDate> dates) {
+
+        encoder.writeVarint(dates.size());
+        long previous = 0;
+        for (final LocalDate date : dates) {
+            final long day = date.toEpochDay();
+            encoder.writeZigZag(day - previous);
+            previous = day;
+        }
+    }
+
+    /**
+     * The next intact record in the buffer, positioned at its payload, or null if there is none. A record that is
+     * incomplete or fails its checksum ends the buffer.
+     */
+    private static ByteBuffer nextRecord(final ByteBuffer buffer) {
+
+        if (buffer.remaining() < RECORD_HEADER_BYTES)
+            return null;
+        final int length = buffer.getInt();
+        final int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining())
+            return null;
+        final ByteBuffer record = buffer.slice();
+        record.limit(length);
+        final CRC32 crc = new CRC32();
+        crc.update(record.duplicate());
+        if ((int) crc.getValue() != checksum)
+            return null;
+        buffer.position(buffer.position() + length);
+        return record;
+    }
+
+    private static int readVarint(final ByteBuffer buffer) {
+
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final byte next = buffer.get();
+            value |= (next & 0x7F) << shift;
+            if (next >= 0)
+                return value;
+        }
+    }
+
+    private static long readZigZag(final ByteBuffer buffer) {
+
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if (next >= 0)
+                return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    /**
+     * Read a whole file into a heap buffer, a mapped buffer would hold the file open until it is garbage collected.
+     */
+    private static ByteBuffer read(final Path file) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+
+    /**
+     * Force the directory's entries to the storage device, so that files created, renamed and deleted in it survive
+     * a crash. Not every platform can open a directory for this, there it is left to the file system.
+     */
+    private static void forceDirectory(final Path directory) {
+
+        try (final FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The directory cannot be forced on this platform.
+        }
+    }
+
+    private static int writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+
+        final int written = buffer.remaining();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        return written;
+    }
+
+    private static Path segmentFile(final Path directory, final long number) {
+        return directory.resolve(String.format("%016d%s", number, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * The numbers of the segments in the directory, in ascending order.
+     */
+    private static long[] segmentNumbers(final Path directory) throws IOException {
+
+        final List<Long> numbers = new ArrayList<>();
+        try (final DirectoryStream<Path> segments = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (final Path segment : segments) {
+                final String name = segment.getFileName().toString();
+                numbers.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        final long[] sorted = numbers.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * A growable buffer of big-endian and variable length encoded values.
+     */
+    private static final class Encoder {
+
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(bytes, 0, size);
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        /**
+         * Reserve the record header, returning the position of the record.
+         */
+        int beginRecord() {
+
+            final int start = size;
+            ensure(RECORD_HEADER_BYTES);
+            size += RECORD_HEADER_BYTES;
+            return start;
+        }
+
+        /**
+         * Fill in the length and checksum of the record started at the supplied position.
+         */
+        void endRecord(final int start) {
+
+            final int payload = start + RECORD_HEADER_BYTES;
+            final CRC32 crc = new CRC32();
+            crc.update(bytes, payload, size - payload);
+            final ByteBuffer header = ByteBuffer.wrap(bytes, start, RECORD_HEADER_BYTES);
+            header.putInt(size - payload);
+            header.putInt((int) crc.getValue());
+        }
+
+        void writeByte(final int value) {
+
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeBytes(final byte[] values) {
+
+            ensure(values.length);
+            System.arraycopy(values, 0, bytes, size, values.length);
+            size += values.length;
+        }
+
+        void writeInt(final int value) {
+
+            ensure(Integer.BYTES);
+            ByteBuffer.wrap(bytes, size, Integer.BYTES).putInt(value);
+            size += Integer.BYTES;
+        }
+
+        void writeLong(final long value) {
+
+            ensure(Long.BYTES);
+            ByteBuffer.wrap(bytes, size, Long.BYTES).putLong(value);
+            size += Long.BYTES;
+        }
+
+        void writeVarint(final int value) {
+
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            writeByte(remaining);
+        }
+
+        void writeZigZag(final long value) {
+
+            long remaining = (value << 1) ^ (value >> 63);
+            while ((remaining & ~0x7FL) != 0) {
+                writeByte((int) (remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            writeByte((int) remaining);
+        }
+
+        private void ensure(final int length) {
+            if (size + length > bytes.length)
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, size + length));
+        }
+    }
+}
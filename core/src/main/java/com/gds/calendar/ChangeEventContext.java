@@ -1,6 +1,7 @@
 package com.gds.calendar;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +11,36 @@ import java.util.Optional;
  */
 public interface ChangeEventContext {
     Optional<String> getMessage();
+
+    /**
+     * The calendar that changed. For a ConcurrentLocalDateCalendar this is an independent copy of the calendar, for
+     * a calendar that has no LocalDateCalendar form, such as a RollingLocalDateCalendar, use getCalendarView().
+     *
+     * @throws IllegalStateException if the calendar that changed has no LocalDateCalendar form.
+     */
     LocalDateCalendar getCalendar();
+
     List<LocalDate> getDates();
     CalendarChangeEvent getCalendarChangeEvent();
+
+    /**
+     * The calendar that changed, whatever its type.
+     */
+    default LocalDateCalendarView getCalendarView() {
+        return getCalendar();
+    }
+
+    /**
+     * The dates added by a change that both adds and removes dates, such as BATCH_APPLIED, empty for other events.
+     */
+    default List<LocalDate> getAddedDates() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The dates removed by a change that both adds and removes dates, such as BATCH_APPLIED, empty for other events.
+     */
+    default List<LocalDate> getRemovedDates() {
+        return Collections.emptyList();
+    }
 }
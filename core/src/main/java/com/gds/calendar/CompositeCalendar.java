@@ -0,0 +1,303 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.util.Assert.noNullElements;
+import static org.springframework.util.Assert.notEmpty;
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A read-only calendar view over a number of member calendars, a day is included in the view when it is included in
+ * all of the members (allOf) or in any of the members (anyOf). For example, the joint business days of a
+ * multi-currency instrument are the allOf view over each currency's business day calendar.
+ * <p>
+ * The view does not materialize any dates, every query is answered from the members. Membership queries stop at the
+ * first member that decides the answer, next and previous day queries leapfrog between the members. Counting and
+ * positional queries use a per-block count of included days that is built on first use and discarded whenever a
+ * member calendar notifies a change, so the view always reflects the current state of its members. Members hold
+ * their listener for the view weakly, so they do not keep a view that is no longer used reachable.
+ * <p>
+ * An allOf view covers the range where all of the members overlap, an anyOf view covers the span of all members.
+ */
+public final class CompositeCalendar implements LocalDateCalendarView {
+
+    private static final int ADDRESS_DAYS_PER_BLOCK = 5;
+    private final String calendarName;
+    private final boolean allOf;
+    private final LocalDateCalendar[] members;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long firstDay;
+    private final long lastDay;
+    private final long firstBlock;
+    // Built lazily by whichever thread queries first, replaced by a new unbuilt version on every member change.
+    private final AtomicReference<BlockRanks> blockRanks = new AtomicReference<>(new BlockRanks(0, null));
+    // Held here so that the member calendars, which hold it weakly, do not keep this view reachable.
+    private final LocalDateCalendarListener invalidation = context -> blockRanks.updateAndGet(
+            current -> new BlockRanks(current.version + 1, null));
+
+    private CompositeCalendar(final String calendarName, final boolean allOf, final LocalDateCalendar[] members,
+                              final LocalDate startDate, final LocalDate endDate) {
+
+        this.calendarName = calendarName;
+        this.allOf = allOf;
+        this.members = members;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.firstDay = startDate.toEpochDay();
+        this.lastDay = endDate.toEpochDay();
+        this.firstBlock = firstDay >> ADDRESS_DAYS_PER_BLOCK;
+    }
+
+    /**
+     * Create a view that includes the days included in every one of the supplied calendars. The view covers the
+     * range where all of the calendars overlap.
+     *
+     * @param calendarName the name of the view.
+     * @param members      the member calendars, at least one.
+     * @return the composite calendar view.
+     * @throws IllegalArgumentException if any argument is null, no member calendars are supplied or the member
+     *                                  calendar ranges do not overlap.
+     */
+    public static CompositeCalendar allOf(final String calendarName, final LocalDateCalendar... members) {
+
+        validate(calendarName, members);
+        LocalDate startDate = members[0].getStartDate();
+        LocalDate endDate = members[0].getEndDate();
+        for (final LocalDateCalendar member : members) {
+            if (member.getStartDate().isAfter(startDate))
+                startDate = member.getStartDate();
+            if (member.getEndDate().isBefore(endDate))
+                endDate = member.getEndDate();
+        }
+        if (endDate.isBefore(startDate))
+            throw new IllegalArgumentException("Member calendar ranges do not overlap.");
+        return subscribe(new CompositeCalendar(calendarName, true, members.clone(), startDate, endDate));
+    }
+
+    /**
+     * Create a view that includes the days included in at least one of the supplied calendars. The view covers the
+     * span of all of the calendars.
+     *
+     * @param calendarName the name of the view.
+     * @param members      the member calendars, at least one.
+     * @return the composite calendar view.
+     * @throws IllegalArgumentException if any argument is null or no member calendars are supplied.
+     */
+    public static CompositeCalendar anyOf(final String calendarName, final LocalDateCalendar... members) {
+
+        validate(calendarName, members);
+        LocalDate startDate = members[0].getStartDate();
+        LocalDate endDate = members[0].getEndDate();
+        for (final LocalDateCalendar member : members) {
+            if (member.getStartDate().isBefore(startDate))
+                startDate = member.getStartDate();
+            if (member.getEndDate().isAfter(endDate))
+                endDate = member.getEndDate();
+        }
+        return subscribe(new CompositeCalendar(calendarName, false, members.clone(), startDate, endDate));
+    }
+
+    /**
+     * The member calendars of this view.
+     *
+     * @return an unmodifiable list of the member calendars.
+     */
+    public List<LocalDateCalendar> getMembers() {
+        return Collections.unmodifiableList(Arrays.asList(members));
+    }
+
+    @Override
+    public String getName() {
+        return calendarName;
+    }
+
+    @Override
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    @Override
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public boolean isIncluded(final long epochDay) {
+
+        if (epochDay < firstDay || epochDay > lastDay)
+            return false;
+        for (final LocalDateCalendar member : members)
+            if (member.isIncluded(epochDay) != allOf)
+                return !allOf;
+        return allOf;
+    }
+
+    @Override
+    public long nextIncluded(final long epochDay) {
+
+        if (epochDay >= lastDay)
+            return NO_DAY;
+        final long from = Math.max(epochDay, firstDay - 1);
+        long candidate = members[0].nextIncluded(from);
+        if (allOf) {
+            int agreed = 1;
+            for (int index = 1 % members.length;
+                 candidate != NO_DAY && candidate <= lastDay && agreed < members.length;
+                 index = (index + 1) % members.length) {
+                if (members[index].isIncluded(candidate)) {
+                    agreed++;
+                } else {
+                    candidate = members[index].nextIncluded(candidate);
+                    agreed = 1;
+                }
+            }
+        } else {
+            for (int index = 1; index < members.length; index++) {
+                final long next = members[index].nextIncluded(from);
+                if (next != NO_DAY && (candidate == NO_DAY || next < candidate))
+                    candidate = next;
+            }
+        }
+        return candidate != NO_DAY && candidate <= lastDay ? candidate : NO_DAY;
+    }
+
+    @Override
+    public long previousIncluded(final long epochDay) {
+
+        if (epochDay <= firstDay)
+            return NO_DAY;
+        final long from = Math.min(epochDay, lastDay + 1);
+        long candidate = members[0].previousIncluded(from);
+        if (allOf) {
+            int agreed = 1;
+            for (int index = 1 % members.length;
+                 candidate != NO_DAY && candidate >= firstDay && agreed < members.length;
+                 index = (index + 1) % members.length) {
+                if (members[index].isIncluded(candidate)) {
+                    agreed++;
+                } else {
+                    candidate = members[index].previousIncluded(candidate);
+                    agreed = 1;
+                }
+            }
+        } else {
+            for (int index = 1; index < members.length; index++)
+                candidate = Math.max(candidate, members[index].previousIncluded(from));
+        }
+        return candidate != NO_DAY && candidate >= firstDay ? candidate : NO_DAY;
+    }
+
+    @Override
+    public long plusIncluded(final long epochDay, final int includedDays) {
+
+        if (includedDays > 0)
+            return dayAtRank(rank(epochDay + 1) + (includedDays - 1L));
+        if (includedDays < 0)
+            return dayAtRank(rank(epochDay) + (long) includedDays);
+        return isIncluded(epochDay) ? epochDay : NO_DAY;
+    }
+
+    @Override
+    public int countIncludedBetween(final long from, final long to) {
+        return rank(to) - rank(from);
+    }
+
+    /**
+     * Count the included days that fall strictly before the supplied day.
+     */
+    private int rank(final long epochDay) {
+
+        final int[] ranks = blockRanks();
+        if (epochDay <= firstDay)
+            return 0;
+        if (epochDay > lastDay)
+            return ranks[ranks.length - 1];
+        final long block = epochDay >> ADDRESS_DAYS_PER_BLOCK;
+        int rank = ranks[(int) (block - firstBlock)];
+        for (long day = Math.max(firstDay, block << ADDRESS_DAYS_PER_BLOCK); day < epochDay; day++)
+            if (isIncluded(day))
+                rank++;
+        return rank;
+    }
+
+    /**
+     * Locate the included day with the supplied rank, ranks outside of the included days yield NO_DAY.
+     */
+    private long dayAtRank(final long rank) {
+
+        final int[] ranks = blockRanks();
+        if (rank < 0 || rank >= ranks[ranks.length - 1])
+            return NO_DAY;
+        int low = 0;
+        int high = ranks.length - 2;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (ranks[middle] <= rank)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        long remaining = rank - ranks[low];
+        long day = Math.max(firstDay, (firstBlock + low) << ADDRESS_DAYS_PER_BLOCK);
+        for (day = isIncluded(day) ? day : nextIncluded(day); remaining > 0; remaining--)
+            day = nextIncluded(day);
+        return day;
+    }
+
+    /**
+     * The number of included days before each block of days, built on first use after a member change. The final
+     * element holds the total number of included days.
+     */
+    private int[] blockRanks() {
+
+        final BlockRanks current = blockRanks.get();
+        if (current.counts != null)
+            return current.counts;
+        final int blocks = (int) ((lastDay >> ADDRESS_DAYS_PER_BLOCK) - firstBlock + 1);
+        final int[] ranks = new int[blocks + 1];
+        for (long day = nextIncluded(firstDay - 1); day != NO_DAY; day = nextIncluded(day))
+            ranks[(int) ((day >> ADDRESS_DAYS_PER_BLOCK) - firstBlock) + 1]++;
+        for (int block = 1; block <= blocks; block++)
+            ranks[block] += ranks[block - 1];
+        // Only published if no member changed during the scan, otherwise the counts may already be stale.
+        blockRanks.compareAndSet(current, new BlockRanks(current.version, ranks));
+        return ranks;
+    }
+
+    private static void validate(final String calendarName, final LocalDateCalendar[] members) {
+
+        notNull(calendarName, "Mandatory argument 'calendarName' is missing.");
+        notEmpty(members, "Mandatory argument 'members' is missing.");
+        noNullElements(members, "Mandatory argument 'members' contains a null calendar.");
+    }
+
+    private static CompositeCalendar subscribe(final CompositeCalendar composite) {
+
+        for (final LocalDateCalendar member : composite.members)
+            member.registerWeakly(composite.invalidation);
+        return composite;
+    }
+
+    /**
+     * The block rank counts built for one version of the members, null until built.
+     */
+    private static final class BlockRanks {
+
+        private final long version;
+        private final int[] counts;
+
+        private BlockRanks(final long version, final int[] counts) {
+
+            this.version = version;
+            this.counts = counts;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.springframework.util.Assert.notEmpty;
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A thread-safe calendar that supports any number of concurrent readers alongside a serialized stream of writers.
+ * <p>
+ * Reads never lock. Every query is answered from an immutable snapshot of the calendar that is published through a
+ * volatile field, so each query sees one consistent state and readers neither block each other nor block, or are
+ * blocked by, writers. Snapshots have their rank index fully built before publication, querying a snapshot never
+ * writes to it. Lists returned by queries are views of the snapshot current at the time of the call, later changes
+ * to this calendar are not reflected in them.
+ * <p>
+ * Writes are serialized. Each mutation is applied to a private working calendar and a new snapshot is published once
+ * the mutation completes. Publishing copies no days, the snapshot shares the working calendar's blocks of 512 days
+ * and the working calendar copies a shared block only when it next writes to it, so a write costs at most one block
+ * copy for each block it touches whatever the calendar range.
+ * <p>
+ * Registered listeners are notified only after the change has been published, so a listener that queries this
+ * calendar always sees the change it is being notified of, and are notified outside of the write lock, so a slow
+ * listener does not hold up the next write. Events are delivered one at a time in the order their changes were
+ * published, by the writing thread or, if another thread is already delivering events, by that thread, in which case
+ * a write may return before its events have been delivered. A listener that writes to this calendar has the events of
+ * its write delivered after it returns. The event context's getCalendarView() is this calendar, its getCalendar() is
+ * an independent copy of this calendar as published by the change, built only if the listener asks for it.
+ */
+public final class ConcurrentLocalDateCalendar extends SnapshotCalendarView {
+
+    private final Object writeLock = new Object();
+    private final LocalDateCalendar working;
+    private final List<ChangeEventContext> pendingEvents = new ArrayList<>();
+    private final LocalDateCalendarListener pendingListener = pendingEvents::add;
+    private final ListenerRegistry listenerRegistry = new ListenerRegistry();
+    // Events whose changes have been published but that have not yet been delivered, guarded by itself.
+    private final Deque<ChangeEventContext> undelivered = new ArrayDeque<>();
+    private boolean delivering;
+    private volatile LocalDateCalendar snapshot;
+
+    /**
+     * Create a calendar that includes every day in its range.
+     *
+     * @param endDate        the last day of the calendar.
+     * @param calendarName   friendly name of the calendar.
+     * @param calendarPeriod specification of the length (in days) of the calendar.
+     * @throws IllegalArgumentException if endDate or calendarName is null.
+     * @throws IllegalStateException    if calendarPeriod is less than or equal to zero.
+     */
+    public ConcurrentLocalDateCalendar(final LocalDate endDate, final String calendarName, final int calendarPeriod) {
+        this(new LocalDateCalendar(endDate, calendarName, calendarPeriod));
+    }
+
+    /**
+     * Create a calendar that starts out as a copy of the supplied calendar, later changes to either calendar are not
+     * reflected in the other. Listeners registered with the supplied calendar are not copied.
+     *
+     * @param calendar the calendar to copy.
+     * @throws IllegalArgumentException if the calendar is null.
+     */
+    public ConcurrentLocalDateCalendar(final LocalDateCalendar calendar) {
+
+        notNull(calendar, "Mandatory argument 'calendar' is missing.");
+        this.working = calendar.snapshot();
+        this.snapshot = working.sharedSnapshot();
+    }
+
+    /**
+     * Register a listener with this calendar, listeners are notified after each change has been published.
+     *
+     * @param listener an implementation of the listener interface.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public ConcurrentLocalDateCalendar register(final LocalDateCalendarListener listener) {
+        return register(listener, EnumSet.allOf(CalendarChangeEvent.class));
+    }
+
+    /**
+     * Register a listener with this calendar for the supplied event types only, see
+     * LocalDateCalendar.register(LocalDateCalendarListener, EnumSet).
+     *
+     * @param listener an implementation of the listener interface.
+     * @param events   the event types the listener is notified of.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null or events is null or empty.
+     */
+    public ConcurrentLocalDateCalendar register(final LocalDateCalendarListener listener,
+                                                final EnumSet<CalendarChangeEvent> events) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        notEmpty(events, "Mandatory argument 'events' is missing or empty.");
+        synchronized (writeLock) {
+            listenerRegistry.register(listener, events, false);
+            subscribeWorking();
+        }
+        return this;
+    }
+
+    /**
+     * Register a listener with this calendar for all event types, holding it weakly, see
+     * LocalDateCalendar.registerWeakly(LocalDateCalendarListener).
+     *
+     * @param listener an implementation of the listener interface.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public ConcurrentLocalDateCalendar registerWeakly(final LocalDateCalendarListener listener) {
+        return registerWeakly(listener, EnumSet.allOf(CalendarChangeEvent.class));
+    }
+
+    /**
+     * Register a listener with this calendar for the supplied event types only, holding it weakly, see
+     * LocalDateCalendar.registerWeakly(LocalDateCalendarListener).
+     *
+     * @param listener an implementation of the listener interface.
+     * @param events   the event types the listener is notified of.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null or events is null or empty.
+     */
+    public ConcurrentLocalDateCalendar registerWeakly(final LocalDateCalendarListener listener,
+                                                      final EnumSet<CalendarChangeEvent> events) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        notEmpty(events, "Mandatory argument 'events' is missing or empty.");
+        synchronized (writeLock) {
+            listenerRegistry.register(listener, events, true);
+            subscribeWorking();
+        }
+        return this;
+    }
+
+    /**
+     * Remove every registration of the supplied listener, see LocalDateCalendar.unregister(LocalDateCalendarListener).
+     *
+     * @param listener a listener registered with this calendar.
+     * @return true if the listener was registered, false otherwise.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public boolean unregister(final LocalDateCalendarListener listener) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        synchronized (writeLock) {
+            final boolean removed = listenerRegistry.unregister(listener);
+            subscribeWorking();
+            return removed;
+        }
+    }
+
+    /**
+     * See LocalDateCalendar.add(LocalDate).
+     */
+    public ConcurrentLocalDateCalendar add(final LocalDate date) {
+        return write(calendar -> calendar.add(date));
+    }
+
+    /**
+     * See LocalDateCalendar.addAll(Collection).
+     */
+    public ConcurrentLocalDateCalendar addAll(final Collection<LocalDate> dates) {
+        return write(calendar -> calendar.addAll(dates));
+    }
+
+    /**
+     * See LocalDateCalendar.add(LocalDateCalendar).
+     */
+    public ConcurrentLocalDateCalendar add(final LocalDateCalendar calendar) {
+        return write(target -> target.add(calendar));
+    }
+
+    /**
+     * See LocalDateCalendar.remove(LocalDate).
+     */
+    public ConcurrentLocalDateCalendar remove(final LocalDate date) {
+        return write(calendar -> calendar.remove(date));
+    }
+
+    /**
+     * See LocalDateCalendar.remove(LocalDate, boolean).
+     */
+    public ConcurrentLocalDateCalendar remove(final LocalDate date, final boolean ignoreNotLocated) {
+        return write(calendar -> calendar.remove(date, ignoreNotLocated));
+    }
+
+    /**
+     * See LocalDateCalendar.removeAll(List).
+     */
+    public ConcurrentLocalDateCalendar removeAll(final List<LocalDate> dates) {
+        return write(calendar -> calendar.removeAll(dates));
+    }
+
+    /**
+     * See LocalDateCalendar.removeAll(List, boolean).
+     */
+    public ConcurrentLocalDateCalendar removeAll(final List<LocalDate> dates, final boolean ignoreUnknownDates) {
+        return write(calendar -> calendar.removeAll(dates, ignoreUnknownDates));
+    }
+
+    /**
+     * See LocalDateCalendar.remove(DayOfWeek).
+     */
+    public ConcurrentLocalDateCalendar remove(final DayOfWeek dayOfWeek) {
+        return write(calendar -> calendar.remove(dayOfWeek));
+    }
+
+    /**
+     * See LocalDateCalendar.removeWeekendDays().
+     */
+    public ConcurrentLocalDateCalendar removeWeekendDays() {
+        return write(LocalDateCalendar::removeWeekendDays);
+    }
+
+    /**
+     * See LocalDateCalendar.removeWeekDays().
+     */
+    public ConcurrentLocalDateCalendar removeWeekDays() {
+        return write(LocalDateCalendar::removeWeekDays);
+    }
+
+    /**
+     * See LocalDateCalendar.remove(LocalDateCalendar).
+     */
+    public ConcurrentLocalDateCalendar remove(final LocalDateCalendar calendar) {
+        return write(target -> target.remove(calendar));
+    }
+
+    /**
+     * See LocalDateCalendar.extendEndDate(LocalDate, DayRule).
+     */
+    public ConcurrentLocalDateCalendar extendEndDate(final LocalDate newEndDate, final DayRule rule) {
+        return write(calendar -> calendar.extendEndDate(newEndDate, rule));
+    }
+
+    /**
+     * See LocalDateCalendar.extendStartDate(LocalDate, DayRule).
+     */
+    public ConcurrentLocalDateCalendar extendStartDate(final LocalDate newStartDate, final DayRule rule) {
+        return write(calendar -> calendar.extendStartDate(newStartDate, rule));
+    }
+
+    /**
+     * See LocalDateCalendar.batch(Consumer). The batch is published as a single snapshot, readers see either none or
+     * all of its changes.
+     */
+    public ConcurrentLocalDateCalendar batch(final Consumer<LocalDateCalendar> mutator) {
+        return write(calendar -> calendar.batch(mutator));
+    }
+
+    /**
+     * The current state of this calendar as an independent LocalDateCalendar, with no listeners. Changes made to the
+     * returned calendar are not reflected in this calendar.
+     *
+     * @return a copy of the current calendar state.
+     */
+    public LocalDateCalendar toLocalDateCalendar() {
+        return snapshot.snapshot();
+    }
+
+    /**
+     * An immutable snapshot of the current state of this calendar, taking a snapshot does not copy any dates.
+     *
+     * @return the frozen calendar.
+     */
+    public FrozenCalendar freeze() {
+        return new FrozenCalendar(snapshot);
+    }
+
+    @Override
+    LocalDateCalendar current() {
+        return snapshot;
+    }
+
+    /**
+     * Subscribe the working calendar's pending events to the event types some listener of this calendar is
+     * registered for, so the working calendar raises no other events. Called holding the write lock.
+     */
+    private void subscribeWorking() {
+
+        final EnumSet<CalendarChangeEvent> events = listenerRegistry.getSubscribedEvents();
+        working.unregister(pendingListener);
+        if (!events.isEmpty())
+            working.register(pendingListener, events);
+    }
+
+    /**
+     * Apply a mutation to the working calendar, publish the result and then, outside of the write lock, notify
+     * listeners of the events raised by the mutation. The snapshot is published and events are delivered even if the
+     * mutation fails part way.
+     */
+    private ConcurrentLocalDateCalendar write(final Consumer<LocalDateCalendar> mutation) {
+
+        try {
+            synchronized (writeLock) {
+                try {
+                    mutation.accept(working);
+                } finally {
+                    final LocalDateCalendar published = working.sharedSnapshot();
+                    snapshot = published;
+                    if (!pendingEvents.isEmpty()) {
+                        // Queued before the write lock is released so events are delivered in publication order.
+                        synchronized (undelivered) {
+                            for (final ChangeEventContext event : pendingEvents)
+                                undelivered.add(LocalDateCalendar.context(event, this, published::snapshot));
+                        }
+                        pendingEvents.clear();
+                    }
+                }
+            }
+        } finally {
+            deliver();
+        }
+        return this;
+    }
+
+    /**
+     * Deliver the undelivered events to listeners in order, unless another thread, or a listener's write on this
+     * thread, is already delivering them. A listener that throws stops delivery, the events after it are delivered
+     * by the next write.
+     */
+    private void deliver() {
+
+        synchronized (undelivered) {
+            if (delivering)
+                return;
+            delivering = true;
+        }
+        boolean drained = false;
+        try {
+            while (true) {
+                final ChangeEventContext event;
+                synchronized (undelivered) {
+                    event = undelivered.poll();
+                    if (event == null) {
+                        delivering = false;
+                        drained = true;
+                        return;
+                    }
+                }
+                listenerRegistry.fire(event);
+            }
+        } finally {
+            if (!drained)
+                synchronized (undelivered) {
+                    delivering = false;
+                }
+        }
+    }
+}
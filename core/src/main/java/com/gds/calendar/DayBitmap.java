@@ -0,0 +1,779 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Membership store for the days managed by a LocalDateCalendar. Each day in the calendar range is represented by a
+ * single bit in a 64 bit word, the bit for a day is addressed by the day's epoch-day value. Words are grouped in fixed
+ * size blocks of eight words, 512 days, so that immutable stores derived from one another can share unchanged blocks.
+ * <p>
+ * In the manner of a roaring bitmap each block is held in whichever of two forms is smaller, dense blocks hold the
+ * eight words themselves and sparse blocks, those including at most 32 days, hold a sorted short[] of the included
+ * days' offsets within the block. A sparse block that would grow beyond 32 days becomes dense, a dense block that
+ * falls to 16 days becomes sparse, the gap stops a block from flipping back and forth. Empty blocks share a single
+ * empty array, so a holiday calendar with a handful of days a year takes a few bytes per block rather than 64, while
+ * a business day calendar is all dense blocks. Sparse arrays are never modified in place, a change replaces the
+ * array, so copies and derived stores share them freely. A store may share its dense blocks too, see share(), it
+ * then copies a shared dense block before it next writes to it.
+ * <p>
+ * Words are aligned on absolute epoch-day boundaries (word n holds epoch days n * 64 to n * 64 + 63) rather than on
+ * the calendar start date, the few bits in the first and last words that fall outside of the calendar range are
+ * always clear. Aligning words this way means that two stores covering different ranges can be combined word by
+ * word without any bit shifting.
+ * <p>
+ * The range can be widened in place, see extend(...). Block storage grows geometrically in the direction of growth and
+ * may therefore hold empty blocks beyond either end of the range, slot n holds the word baseWord + n.
+ * <p>
+ * A rank index of per-block count prefix sums sits over the blocks, it answers 'how many included days precede
+ * this day' (rank) and 'which is the nth included day' (select) without walking the bitmap. Mutations only mark the
+ * index stale from the block they touch onwards, the stale blocks are recounted on the next rank or select query.
+ */
+final class DayBitmap {
+
+    static final long NO_DAY = LocalDateCalendarView.NO_DAY;
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BIT_INDEX_MASK = 63;
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int ADDRESS_WORDS_PER_BLOCK = 3;
+    private static final int WORDS_PER_BLOCK = 1 << ADDRESS_WORDS_PER_BLOCK;
+    private static final int WORD_INDEX_MASK = WORDS_PER_BLOCK - 1;
+    // A sorted array of this many two byte offsets is no larger than a dense block's eight words.
+    private static final int SPARSE_MAX = 32;
+    private static final short[] EMPTY = new short[0];
+
+    private long firstDay;
+    private long lastDay;
+    private long baseWord;
+    private long[][] dense;
+    private short[][] sparse;
+    // Which dense blocks may also be held by another store and must be copied before they are written, null if none.
+    private boolean[] shared;
+    private int[] blockRanks;
+    private int rankedBlocks = 1;
+    private int cardinality;
+
+    /**
+     * Create an empty store that is able to hold the days between the two supplied epoch-day values, inclusive.
+     *
+     * @param firstDay the epoch-day value of the first day in range.
+     * @param lastDay  the epoch-day value of the last day in range.
+     * @throws IllegalStateException if lastDay is before firstDay.
+     */
+    DayBitmap(final long firstDay, final long lastDay) {
+
+        state(lastDay >= firstDay, "Argument 'lastDay' must be >= 'firstDay'");
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.baseWord = wordIndex(firstDay);
+        final int blocks = blocksFor(wordIndex(lastDay) - baseWord + 1);
+        this.dense = new long[blocks][];
+        this.sparse = new short[blocks][];
+        this.blockRanks = new int[blocks];
+        Arrays.fill(sparse, EMPTY);
+    }
+
+    /**
+     * Create a store over the same range as the source store that holds the supplied blocks.
+     */
+    private DayBitmap(final DayBitmap source, final long[][] dense, final short[][] sparse) {
+
+        this.firstDay = source.firstDay;
+        this.lastDay = source.lastDay;
+        this.baseWord = source.baseWord;
+        this.dense = dense;
+        this.sparse = sparse;
+        this.blockRanks = source.blockRanks.clone();
+        this.rankedBlocks = source.rankedBlocks;
+        this.cardinality = source.cardinality;
+    }
+
+    /**
+     * Create a store over the supplied range whose words are the supplied stores' words folded together, left to
+     * right, with the supplied operator. Stores need not cover the same range, words beyond a store's range are
+     * treated as zero. Days outside of the new store's range are dropped.
+     */
+    static DayBitmap combine(final long firstDay, final long lastDay, final LongBinaryOperator operator,
+                             final DayBitmap... stores) {
+
+        final DayBitmap combined = new DayBitmap(firstDay, lastDay);
+        for (int slot = 0, lastSlot = combined.slot(lastDay); slot <= lastSlot; slot++) {
+            final long wordIndex = combined.baseWord + slot;
+            long word = stores[0].wordAt(wordIndex);
+            for (int index = 1; index < stores.length; index++)
+                word = operator.applyAsLong(word, stores[index].wordAt(wordIndex));
+            combined.setWord(slot, word);
+        }
+        combined.mask();
+        for (int block = 0; block < combined.dense.length; block++)
+            combined.cardinality += combined.blockCount(block);
+        combined.compact(0, combined.dense.length - 1);
+        return combined;
+    }
+
+    /**
+     * Create an independent copy of this store whose rank index is fully built. A copy that is not mutated after
+     * creation never writes to its own state, so it can be queried by many threads once it is safely published.
+     */
+    DayBitmap copy() {
+
+        final long[][] copied = new long[dense.length][];
+        for (int block = 0; block < dense.length; block++)
+            if (dense[block] != null)
+                copied[block] = dense[block].clone();
+        final DayBitmap copy = new DayBitmap(this, copied, sparse.clone());
+        copy.rankAll();
+        return copy;
+    }
+
+    /**
+     * Create a copy of this store, whose rank index is fully built, that shares every block with this store rather
+     * than copying its words. This store copies a shared dense block before it next writes to it, so sharing costs one
+     * reference per block and each later mutation of this store at most one block copy, 512 days.
+     * <p>
+     * The copy must never be mutated, it never writes to its own state and so can be queried by many threads once it
+     * is safely published, while this store, on a single thread, goes on being mutated.
+     */
+    DayBitmap share() {
+
+        final DayBitmap copy = new DayBitmap(this, dense.clone(), sparse.clone());
+        if (shared == null || shared.length != dense.length)
+            shared = new boolean[dense.length];
+        for (int block = 0; block < dense.length; block++)
+            shared[block] = dense[block] != null;
+        copy.rankAll();
+        return copy;
+    }
+
+    /**
+     * Create a store that differs from this store only in that the supplied days are included, or excluded, according
+     * to 'included'. Days to include must be within range, days to exclude that are not included are ignored.
+     * <p>
+     * The new store shares every block that it does not change with this store, so this store must never be mutated
+     * once a store has been derived from it. The new store's rank index is fully built.
+     *
+     * @return the derived store, or this store if no day changes.
+     */
+    DayBitmap with(final long[] epochDays, final boolean included) {
+
+        final DayBitmap derived = new DayBitmap(this, dense.clone(), sparse.clone());
+        boolean changed = false;
+        for (final long epochDay : epochDays) {
+            if (derived.contains(epochDay) == included)
+                continue;
+            final int block = slot(epochDay) >> ADDRESS_WORDS_PER_BLOCK;
+            if (dense[block] != null && derived.dense[block] == dense[block])
+                derived.dense[block] = dense[block].clone();
+            if (included)
+                derived.add(epochDay);
+            else
+                derived.remove(epochDay);
+            changed = true;
+        }
+        if (!changed)
+            return this;
+        derived.rankAll();
+        return derived;
+    }
+
+    /**
+     * Report the days that differ between this store and the supplied store, which must cover the same range. Days
+     * included in this store only are passed to 'added', days included in the supplied store only to 'removed', each
+     * latest first. Blocks the two stores share are skipped without being compared.
+     *
+     * @throws IllegalStateException if the stores do not cover the same range.
+     */
+    void diff(final DayBitmap before, final LongConsumer added, final LongConsumer removed) {
+
+        state(before.firstDay == firstDay && before.lastDay == lastDay && before.baseWord == baseWord,
+                "Stores must cover the same range");
+        for (int slot = slot(lastDay); slot >= 0; slot--) {
+            final int block = slot >> ADDRESS_WORDS_PER_BLOCK;
+            if (dense[block] == before.dense[block] && sparse[block] == before.sparse[block]) {
+                slot &= ~WORD_INDEX_MASK;
+                continue;
+            }
+            final long word = word(slot);
+            final long previous = before.word(slot);
+            final long base = (baseWord + slot) << ADDRESS_BITS_PER_WORD;
+            for (long bits = word & ~previous; bits != 0; bits &= ~Long.highestOneBit(bits))
+                added.accept(base + BIT_INDEX_MASK - Long.numberOfLeadingZeros(bits));
+            for (long bits = previous & ~word; bits != 0; bits &= ~Long.highestOneBit(bits))
+                removed.accept(base + BIT_INDEX_MASK - Long.numberOfLeadingZeros(bits));
+        }
+    }
+
+    /**
+     * Replace the contents of this store, in place, with those of the supplied store, which must cover the same range
+     * and must not be used afterwards.
+     *
+     * @throws IllegalStateException if the stores do not cover the same range.
+     */
+    void assign(final DayBitmap source) {
+
+        state(source.firstDay == firstDay && source.lastDay == lastDay && source.baseWord == baseWord,
+                "Stores must cover the same range");
+        dense = source.dense;
+        sparse = source.sparse;
+        shared = source.shared;
+        blockRanks = source.blockRanks;
+        rankedBlocks = source.rankedBlocks;
+        cardinality = source.cardinality;
+    }
+
+    /**
+     * Widen the range of this store, in place, to the supplied days, inclusive. Days that enter the range are not
+     * included. When the blocks held do not cover the new range the block array is regrown to at least twice its
+     * length, existing blocks are moved by reference and their words are never copied, so a series of small
+     * extensions in the same direction costs amortised constant time per day.
+     *
+     * @throws IllegalStateException if the new range does not contain the current range.
+     */
+    void extend(final long newFirstDay, final long newLastDay) {
+
+        state(newFirstDay <= firstDay && newLastDay >= lastDay, "A store range may only be widened");
+        final long headWords = baseWord - wordIndex(newFirstDay);
+        final long tailWords = wordIndex(newLastDay) - baseWord + 1 - ((long) dense.length << ADDRESS_WORDS_PER_BLOCK);
+        final int headBlocks = headWords > 0 ? Math.max(blocksFor(headWords), dense.length) : 0;
+        final int tailBlocks = tailWords > 0 ? Math.max(blocksFor(tailWords), dense.length) : 0;
+        if (headBlocks + tailBlocks > 0) {
+            final int blocks = headBlocks + dense.length + tailBlocks;
+            final long[][] grownDense = new long[blocks][];
+            final short[][] grownSparse = new short[blocks][];
+            Arrays.fill(grownSparse, EMPTY);
+            System.arraycopy(dense, 0, grownDense, headBlocks, dense.length);
+            System.arraycopy(sparse, 0, grownSparse, headBlocks, sparse.length);
+            if (shared != null) {
+                final boolean[] grownShared = new boolean[blocks];
+                System.arraycopy(shared, 0, grownShared, headBlocks, shared.length);
+                shared = grownShared;
+            }
+            // Prefix sums ahead of the old blocks are unchanged unless blocks were added in front of them.
+            blockRanks = headBlocks == 0 ? Arrays.copyOf(blockRanks, blocks) : new int[blocks];
+            rankedBlocks = headBlocks == 0 ? rankedBlocks : 1;
+            baseWord -= (long) headBlocks << ADDRESS_WORDS_PER_BLOCK;
+            dense = grownDense;
+            sparse = grownSparse;
+        }
+        firstDay = newFirstDay;
+        lastDay = newLastDay;
+    }
+
+    static long wordIndex(final long epochDay) {
+        return epochDay >> ADDRESS_BITS_PER_WORD;
+    }
+
+    long getFirstDay() {
+        return firstDay;
+    }
+
+    long getLastDay() {
+        return lastDay;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * The number of blocks held in dense form, the remaining blocks are sparse.
+     */
+    int denseBlocks() {
+
+        int count = 0;
+        for (final long[] words : dense)
+            if (words != null)
+                count++;
+        return count;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    boolean inRange(final long epochDay) {
+        return epochDay >= firstDay && epochDay <= lastDay;
+    }
+
+    boolean contains(final long epochDay) {
+
+        if (!inRange(epochDay))
+            return false;
+        final int slot = slot(epochDay);
+        final long[] words = dense[slot >> ADDRESS_WORDS_PER_BLOCK];
+        return words != null ? (words[slot & WORD_INDEX_MASK] & (1L << epochDay)) != 0
+                : Arrays.binarySearch(sparse[slot >> ADDRESS_WORDS_PER_BLOCK], offset(slot, epochDay)) >= 0;
+    }
+
+    /**
+     * Include a day, the day must be within range.
+     *
+     * @return true if the day was not already included.
+     */
+    boolean add(final long epochDay) {
+
+        final int slot = slot(epochDay);
+        final int block = slot >> ADDRESS_WORDS_PER_BLOCK;
+        final long bit = 1L << epochDay;
+        if (dense[block] != null) {
+            if ((dense[block][slot & WORD_INDEX_MASK] & bit) != 0)
+                return false;
+            writable(block)[slot & WORD_INDEX_MASK] |= bit;
+        } else {
+            final short[] offsets = sparse[block];
+            final int index = Arrays.binarySearch(offsets, offset(slot, epochDay));
+            if (index >= 0)
+                return false;
+            if (offsets.length < SPARSE_MAX) {
+                final int insertion = -index - 1;
+                final short[] inserted = new short[offsets.length + 1];
+                System.arraycopy(offsets, 0, inserted, 0, insertion);
+                inserted[insertion] = offset(slot, epochDay);
+                System.arraycopy(offsets, insertion, inserted, insertion + 1, offsets.length - insertion);
+                sparse[block] = inserted;
+            } else {
+                toDense(block);
+                dense[block][slot & WORD_INDEX_MASK] |= bit;
+            }
+        }
+        cardinality++;
+        invalidateRanks(slot);
+        return true;
+    }
+
+    /**
+     * Exclude a day, days outside of range are never included and are ignored.
+     *
+     * @return true if the day was included before removal.
+     */
+    boolean remove(final long epochDay) {
+
+        if (!contains(epochDay))
+            return false;
+        final int slot = slot(epochDay);
+        final int block = slot >> ADDRESS_WORDS_PER_BLOCK;
+        if (dense[block] != null) {
+            writable(block)[slot & WORD_INDEX_MASK] &= ~(1L << epochDay);
+            if (blockCount(block) <= SPARSE_MAX / 2)
+                toSparse(block);
+        } else {
+            final short[] offsets = sparse[block];
+            final int index = Arrays.binarySearch(offsets, offset(slot, epochDay));
+            final short[] removed = offsets.length == 1 ? EMPTY : new short[offsets.length - 1];
+            System.arraycopy(offsets, 0, removed, 0, index);
+            System.arraycopy(offsets, index + 1, removed, index, offsets.length - index - 1);
+            sparse[block] = removed;
+        }
+        cardinality--;
+        invalidateRanks(slot);
+        return true;
+    }
+
+    /**
+     * Include every day in range.
+     */
+    void fill() {
+
+        for (int slot = slot(firstDay), lastSlot = slot(lastDay); slot <= lastSlot; slot++)
+            setWord(slot, WORD_MASK);
+        mask();
+        cardinality = (int) (lastDay - firstDay + 1);
+        compact(slot(firstDay) >> ADDRESS_WORDS_PER_BLOCK, slot(lastDay) >> ADDRESS_WORDS_PER_BLOCK);
+        invalidateRanks(0);
+    }
+
+    /**
+     * Include every day that is included in the supplied store, the supplied store's included days must all be
+     * within range. Words are merged in a single pass, each newly included day is reported to the supplied consumer
+     * in ascending order.
+     *
+     * @return the number of newly included days.
+     */
+    int or(final DayBitmap other, final LongConsumer added) {
+
+        final int before = cardinality;
+        final int offset = (int) (other.baseWord - baseWord);
+        // The slots of this store actually written, the other store's range may be wider than this store's.
+        int firstWritten = Integer.MAX_VALUE;
+        int lastWritten = Integer.MIN_VALUE;
+        for (int otherSlot = other.slot(other.firstDay), lastSlot = other.slot(other.lastDay); otherSlot <= lastSlot;
+             otherSlot++) {
+            long word = other.word(otherSlot);
+            if (word == 0)
+                continue;
+            final int slot = otherSlot + offset;
+            final long current = word(slot);
+            word &= ~current;
+            if (word == 0)
+                continue;
+            setWord(slot, current | word);
+            cardinality += Long.bitCount(word);
+            invalidateRanks(slot);
+            firstWritten = Math.min(firstWritten, slot);
+            lastWritten = Math.max(lastWritten, slot);
+            final long base = (baseWord + slot) << ADDRESS_BITS_PER_WORD;
+            for (; word != 0; word &= word - 1)
+                added.accept(base + Long.numberOfTrailingZeros(word));
+        }
+        if (cardinality != before)
+            compact(firstWritten >> ADDRESS_WORDS_PER_BLOCK, lastWritten >> ADDRESS_WORDS_PER_BLOCK);
+        return cardinality - before;
+    }
+
+    /**
+     * Exclude every day that is included in the supplied store, days of the supplied store that are outside of this
+     * store's range are ignored. Words are merged in a single pass, each newly excluded day is reported to the
+     * supplied consumer in ascending order.
+     *
+     * @return the number of newly excluded days.
+     */
+    int andNot(final DayBitmap other, final LongConsumer removed) {
+
+        final int before = cardinality;
+        final int offset = (int) (other.baseWord - baseWord);
+        int firstWritten = Integer.MAX_VALUE;
+        int lastWritten = Integer.MIN_VALUE;
+        for (int otherSlot = Math.max(other.slot(other.firstDay), slot(firstDay) - offset),
+             lastSlot = Math.min(other.slot(other.lastDay), slot(lastDay) - offset); otherSlot <= lastSlot;
+             otherSlot++) {
+            long word = other.word(otherSlot);
+            if (word == 0)
+                continue;
+            final int slot = otherSlot + offset;
+            final long current = word(slot);
+            word &= current;
+            if (word == 0)
+                continue;
+            setWord(slot, current & ~word);
+            cardinality -= Long.bitCount(word);
+            invalidateRanks(slot);
+            firstWritten = Math.min(firstWritten, slot);
+            lastWritten = Math.max(lastWritten, slot);
+            final long base = (baseWord + slot) << ADDRESS_BITS_PER_WORD;
+            for (; word != 0; word &= word - 1)
+                removed.accept(base + Long.numberOfTrailingZeros(word));
+        }
+        if (cardinality != before)
+            compact(firstWritten >> ADDRESS_WORDS_PER_BLOCK, lastWritten >> ADDRESS_WORDS_PER_BLOCK);
+        return before - cardinality;
+    }
+
+    /**
+     * Count the included days that fall within the supplied range, inclusive.
+     */
+    int count(final long from, final long to) {
+        return to < from ? 0 : rank(to == Long.MAX_VALUE ? to : to + 1) - rank(from);
+    }
+
+    /**
+     * Exclude every day in range that falls on the supplied day of the week.
+     *
+     * @return the number of days that were excluded.
+     */
+    int removeDayOfWeek(final DayOfWeek dayOfWeek) {
+
+        final long offset = Math.floorMod(
+                dayOfWeek.getValue() - EpochDays.dayOfWeek(firstDay).getValue(), (long) DAYS_PER_WEEK);
+        final int before = cardinality;
+        for (long epochDay = firstDay + offset; epochDay <= lastDay; epochDay += DAYS_PER_WEEK)
+            remove(epochDay);
+        return before - cardinality;
+    }
+
+    /**
+     * Locate the first included day that is on or after the supplied day.
+     *
+     * @return the epoch-day value of the located day or NO_DAY if there is no such day.
+     */
+    long next(final long epochDay) {
+
+        if (epochDay > lastDay)
+            return NO_DAY;
+        final long from = Math.max(epochDay, firstDay);
+        final long word = word(slot(from)) & (WORD_MASK << from);
+        if (word != 0)
+            return (wordIndex(from) << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+        final int rank = rank(from);
+        return rank < cardinality ? select(rank) : NO_DAY;
+    }
+
+    /**
+     * Locate the last included day that is on or before the supplied day.
+     *
+     * @return the epoch-day value of the located day or NO_DAY if there is no such day.
+     */
+    long previous(final long epochDay) {
+
+        if (epochDay < firstDay)
+            return NO_DAY;
+        final long from = Math.min(epochDay, lastDay);
+        final long word = word(slot(from)) & (WORD_MASK >>> -(from + 1));
+        if (word != 0)
+            return (wordIndex(from) << ADDRESS_BITS_PER_WORD) + BIT_INDEX_MASK - Long.numberOfLeadingZeros(word);
+        final int rank = rank(from);
+        return rank > 0 ? select(rank - 1) : NO_DAY;
+    }
+
+    /**
+     * Copy the included days from 'from', inclusive, to 'to', exclusive, into the sink in ascending order. Copying
+     * stops early if the sink fills up.
+     *
+     * @return the number of days written to the sink.
+     */
+    int copyTo(final long from, final long to, final int[] sink) {
+
+        final long first = Math.max(from, firstDay);
+        final long last = Math.min(to - 1, lastDay);
+        if (last < first || sink.length == 0)
+            return 0;
+        int count = 0;
+        int slot = slot(first);
+        final int lastSlot = slot(last);
+        long word = word(slot) & (WORD_MASK << first);
+        while (true) {
+            if (slot == lastSlot)
+                word &= WORD_MASK >>> -(last + 1);
+            final long base = (baseWord + slot) << ADDRESS_BITS_PER_WORD;
+            for (; word != 0; word &= word - 1) {
+                sink[count++] = (int) (base + Long.numberOfTrailingZeros(word));
+                if (count == sink.length)
+                    return count;
+            }
+            if (slot == lastSlot)
+                return count;
+            word = word(++slot);
+        }
+    }
+
+    /**
+     * Report the included days from 'from', inclusive, to 'to', exclusive, to the supplied consumer in ascending
+     * order, reading a word at a time.
+     */
+    void forEach(final long from, final long to, final LongConsumer action) {
+
+        final long first = Math.max(from, firstDay);
+        final long last = Math.min(to - 1, lastDay);
+        if (last < first)
+            return;
+        int slot = slot(first);
+        final int lastSlot = slot(last);
+        long word = word(slot) & (WORD_MASK << first);
+        while (true) {
+            if (slot == lastSlot)
+                word &= WORD_MASK >>> -(last + 1);
+            final long base = (baseWord + slot) << ADDRESS_BITS_PER_WORD;
+            for (; word != 0; word &= word - 1)
+                action.accept(base + Long.numberOfTrailingZeros(word));
+            if (slot == lastSlot)
+                return;
+            word = word(++slot);
+        }
+    }
+
+    /**
+     * Bring the whole rank index up to date. A store that is not mutated afterwards never writes to its own state
+     * when queried, so it can then be queried by many threads at once.
+     */
+    void rankAll() {
+        blockRank(blockRanks.length - 1);
+    }
+
+    /**
+     * Count the included days that fall strictly before the supplied day.
+     *
+     * @return the number of included days before the supplied day, zero to cardinality() inclusive.
+     */
+    int rank(final long epochDay) {
+
+        if (epochDay <= firstDay)
+            return 0;
+        if (epochDay > lastDay)
+            return cardinality;
+        final int slot = slot(epochDay);
+        final int block = slot >> ADDRESS_WORDS_PER_BLOCK;
+        final long[] words = dense[block];
+        int rank = blockRank(block);
+        if (words == null) {
+            final int index = Arrays.binarySearch(sparse[block], offset(slot, epochDay));
+            return rank + (index >= 0 ? index : -index - 1);
+        }
+        for (int index = 0; index < (slot & WORD_INDEX_MASK); index++)
+            rank += Long.bitCount(words[index]);
+        return rank + Long.bitCount(words[slot & WORD_INDEX_MASK] & ~(WORD_MASK << epochDay));
+    }
+
+    /**
+     * Locate the included day that has the supplied rank, i.e. the day preceded by exactly 'rank' included days.
+     *
+     * @param rank a zero based rank that must be less than cardinality().
+     * @return the epoch-day value of the located day.
+     */
+    long select(final int rank) {
+
+        state(rank >= 0 && rank < cardinality, "Argument 'rank' must be >= 0 and < cardinality");
+        int low = 0;
+        int high = blockRanks.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (blockRank(middle) <= rank)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        int remaining = rank - blockRank(low);
+        final long[] words = dense[low];
+        final long firstBlockDay = (baseWord + ((long) low << ADDRESS_WORDS_PER_BLOCK)) << ADDRESS_BITS_PER_WORD;
+        if (words == null)
+            return firstBlockDay + sparse[low][remaining];
+        int index = 0;
+        for (int count = Long.bitCount(words[index]); count <= remaining; count = Long.bitCount(words[index])) {
+            remaining -= count;
+            index++;
+        }
+        long word = words[index];
+        for (; remaining > 0; remaining--)
+            word &= word - 1;
+        return firstBlockDay + ((long) index << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+    }
+
+    private int blockRank(final int block) {
+
+        for (; rankedBlocks <= block; rankedBlocks++) {
+            blockRanks[rankedBlocks] = blockRanks[rankedBlocks - 1] + blockCount(rankedBlocks - 1);
+        }
+        return blockRanks[block];
+    }
+
+    private void invalidateRanks(final int slot) {
+        rankedBlocks = Math.min(rankedBlocks, (slot >> ADDRESS_WORDS_PER_BLOCK) + 1);
+    }
+
+    /**
+     * The word holding the supplied absolute word index, zero if the word is beyond this store's range.
+     */
+    private long wordAt(final long wordIndex) {
+
+        return wordIndex >= wordIndex(firstDay) && wordIndex <= wordIndex(lastDay)
+                ? word((int) (wordIndex - baseWord)) : 0L;
+    }
+
+    private long word(final int slot) {
+
+        final int block = slot >> ADDRESS_WORDS_PER_BLOCK;
+        if (dense[block] != null)
+            return dense[block][slot & WORD_INDEX_MASK];
+        long word = 0;
+        for (final short offset : sparse[block]) {
+            final int index = offset >> ADDRESS_BITS_PER_WORD;
+            if (index > (slot & WORD_INDEX_MASK))
+                break;
+            if (index == (slot & WORD_INDEX_MASK))
+                word |= 1L << offset;
+        }
+        return word;
+    }
+
+    /**
+     * Overwrite the word in the supplied slot, making its block dense. Cardinality, the rank index and the block form
+     * are left to the caller.
+     */
+    private void setWord(final int slot, final long word) {
+
+        final int block = slot >> ADDRESS_WORDS_PER_BLOCK;
+        if (dense[block] == null)
+            toDense(block);
+        writable(block)[slot & WORD_INDEX_MASK] = word;
+    }
+
+    /**
+     * The words of a dense block, copied first if the block may also be held by another store.
+     */
+    private long[] writable(final int block) {
+
+        if (shared != null && shared[block]) {
+            dense[block] = dense[block].clone();
+            shared[block] = false;
+        }
+        return dense[block];
+    }
+
+    private int blockCount(final int block) {
+
+        if (dense[block] == null)
+            return sparse[block].length;
+        int count = 0;
+        for (final long word : dense[block])
+            count += Long.bitCount(word);
+        return count;
+    }
+
+    private void toDense(final int block) {
+
+        final long[] words = new long[WORDS_PER_BLOCK];
+        for (final short offset : sparse[block])
+            words[offset >> ADDRESS_BITS_PER_WORD] |= 1L << offset;
+        dense[block] = words;
+        sparse[block] = null;
+        if (shared != null)
+            shared[block] = false;
+    }
+
+    private void toSparse(final int block) {
+
+        final int count = blockCount(block);
+        final short[] offsets = count == 0 ? EMPTY : new short[count];
+        int next = 0;
+        for (int index = 0; index < WORDS_PER_BLOCK; index++)
+            for (long word = dense[block][index]; word != 0; word &= word - 1)
+                offsets[next++] = (short) ((index << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word));
+        sparse[block] = offsets;
+        dense[block] = null;
+    }
+
+    /**
+     * Give each dense block in the supplied range, inclusive, the smaller of the two forms, used after bulk changes.
+     */
+    private void compact(final int fromBlock, final int toBlock) {
+
+        for (int block = fromBlock; block <= toBlock; block++)
+            if (dense[block] != null && blockCount(block) <= SPARSE_MAX)
+                toSparse(block);
+    }
+
+    /**
+     * Clear the bits in the first and last words that fall outside of range.
+     */
+    private void mask() {
+
+        final int firstSlot = slot(firstDay);
+        setWord(firstSlot, word(firstSlot) & (WORD_MASK << firstDay));
+        final int lastSlot = slot(lastDay);
+        setWord(lastSlot, word(lastSlot) & (WORD_MASK >>> -(lastDay + 1)));
+    }
+
+    private int slot(final long epochDay) {
+        return (int) (wordIndex(epochDay) - baseWord);
+    }
+
+    /**
+     * The offset of a day within its block, as held by a sparse block.
+     */
+    private static short offset(final int slot, final long epochDay) {
+        return (short) (((slot & WORD_INDEX_MASK) << ADDRESS_BITS_PER_WORD) | (epochDay & BIT_INDEX_MASK));
+    }
+
+    /**
+     * The number of blocks needed to hold the supplied number of words.
+     */
+    private static int blocksFor(final long words) {
+        return (int) ((words - 1) >> ADDRESS_WORDS_PER_BLOCK) + 1;
+    }
+}
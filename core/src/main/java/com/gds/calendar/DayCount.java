@@ -0,0 +1,74 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Day count conventions used to compute the fraction of a year between two dates, for example, to accrue interest
+ * over a coupon period. Periods run from the start date, inclusive, to the end date, exclusive, and are negative when
+ * the end date is before the start date.
+ * <p>
+ * Only BUSINESS_252 uses the calendar, it counts the included days in the period with countIncludedBetween(...),
+ * which a LocalDateCalendar answers from its rank index without visiting the days of the period.
+ */
+public enum DayCount {
+
+    /**
+     * Actual days in the period over 360.
+     */
+    ACT_360 {
+        @Override
+        double yearFraction(final LocalDateCalendarView calendar, final long start, final long end) {
+            return (end - start) / 360d;
+        }
+    },
+
+    /**
+     * Actual days in the period over a fixed 365.
+     */
+    ACT_365F {
+        @Override
+        double yearFraction(final LocalDateCalendarView calendar, final long start, final long end) {
+            return (end - start) / 365d;
+        }
+    },
+
+    /**
+     * Every month treated as 30 days over a 360 day year, the bond basis. A start on the 31st is treated as the 30th,
+     * as is an end on the 31st when the start falls on the 30th or 31st.
+     */
+    THIRTY_360 {
+        @Override
+        double yearFraction(final LocalDateCalendarView calendar, final long start, final long end) {
+
+            final LocalDate startDate = LocalDate.ofEpochDay(start);
+            final LocalDate endDate = LocalDate.ofEpochDay(end);
+            final int startDay = Math.min(startDate.getDayOfMonth(), 30);
+            final int endDay = startDay == 30 ? Math.min(endDate.getDayOfMonth(), 30) : endDate.getDayOfMonth();
+            return (360 * (endDate.getYear() - startDate.getYear())
+                    + 30 * (endDate.getMonthValue() - startDate.getMonthValue()) + endDay - startDay) / 360d;
+        }
+    },
+
+    /**
+     * Days included in the calendar in the period over 252, the Brazilian business day convention.
+     */
+    BUSINESS_252 {
+        @Override
+        double yearFraction(final LocalDateCalendarView calendar, final long start, final long end) {
+            return calendar.countIncludedBetween(start, end) / 252d;
+        }
+    };
+
+    /**
+     * Compute the year fraction of a period.
+     *
+     * @param calendar the calendar supplying the included days.
+     * @param start    the epoch-day value of the start of the period, inclusive.
+     * @param end      the epoch-day value of the end of the period, exclusive.
+     * @return the fraction of a year, negative if 'end' is before 'start'.
+     */
+    abstract double yearFraction(LocalDateCalendarView calendar, long start, long end);
+}
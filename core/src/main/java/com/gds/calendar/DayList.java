@@ -0,0 +1,67 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * An unmodifiable, live list view of the days included in a DayBitmap between two days, latest date first. Element
+ * access and index lookups are answered from the bitmap rank index, so positional access does not walk the dates.
+ */
+final class DayList extends AbstractList<LocalDate> implements RandomAccess {
+
+    private final DayBitmap days;
+    private final long firstDay;
+    private final long lastDay;
+
+    DayList(final DayBitmap days, final long firstDay, final long lastDay) {
+        this.days = days;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+    }
+
+    /**
+     * Is this list a view of the supplied store, and so changed by changes to it.
+     */
+    boolean isViewOf(final DayBitmap store) {
+        return days == store;
+    }
+
+    @Override
+    public LocalDate get(final int index) {
+
+        final int size = size();
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return LocalDate.ofEpochDay(days.select(days.rank(lastDay + 1) - 1 - index));
+    }
+
+    @Override
+    public int size() {
+        return lastDay < firstDay ? 0 : days.rank(lastDay + 1) - days.rank(firstDay);
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    @Override
+    public int indexOf(final Object object) {
+
+        if (!(object instanceof LocalDate))
+            return -1;
+        final long epochDay = ((LocalDate) object).toEpochDay();
+        if (epochDay < firstDay || epochDay > lastDay || !days.contains(epochDay))
+            return -1;
+        return days.rank(lastDay + 1) - 1 - days.rank(epochDay);
+    }
+
+    @Override
+    public int lastIndexOf(final Object object) {
+        return indexOf(object);
+    }
+}
@@ -0,0 +1,35 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A source of included days, used to decide whether a day is included in a calendar when the day first enters the
+ * calendar, for example, as a RollingLocalDateCalendar advances its window.
+ */
+@FunctionalInterface
+public interface DayRule {
+
+    /**
+     * @param date the date to test.
+     * @return true if the date should be included in the calendar, false otherwise.
+     */
+    boolean includes(LocalDate date);
+
+    /**
+     * A rule that includes every day.
+     */
+    static DayRule allDays() {
+        return date -> true;
+    }
+
+    /**
+     * A rule that includes Monday to Friday.
+     */
+    static DayRule weekdays() {
+        return date -> date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+    }
+}
@@ -0,0 +1,99 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A spliterator over the days included in a DayBitmap between two days, ascending. The range of days is split in
+ * half on bitmap word boundaries, so each half of a split covers the same number of days and parallel streams divide
+ * the work evenly. Sizes are exact, they are answered from the bitmap rank index, which is brought up to date when
+ * the spliterator is created so that the halves never write to the bitmap as they run in parallel.
+ */
+final class DaySpliterator implements Spliterator<LocalDate> {
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | SORTED | NONNULL | SIZED | SUBSIZED;
+    private static final long WORD_ALIGNMENT = ~63L;
+    // Ranges shorter than two blocks of days are not worth handing to another thread.
+    private static final long MIN_SPLIT_DAYS = 1024;
+    private final DayBitmap days;
+    private final long to;
+    private long from;
+
+    /**
+     * @param days the store holding the days.
+     * @param from the first day of the range, inclusive.
+     * @param to   the last day of the range, exclusive.
+     */
+    DaySpliterator(final DayBitmap days, final long from, final long to) {
+
+        this.days = days;
+        this.from = Math.max(from, days.getFirstDay());
+        this.to = Math.max(this.from, Math.min(to, days.getLastDay() + 1));
+        days.rankAll();
+    }
+
+    private DaySpliterator(final DaySpliterator source, final long to) {
+
+        this.days = source.days;
+        this.from = source.from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super LocalDate> action) {
+
+        notNull(action, "Mandatory argument 'action' is missing.");
+        final long day = days.next(from);
+        if (day == DayBitmap.NO_DAY || day >= to) {
+            from = to;
+            return false;
+        }
+        from = day + 1;
+        action.accept(LocalDate.ofEpochDay(day));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super LocalDate> action) {
+
+        notNull(action, "Mandatory argument 'action' is missing.");
+        final long start = from;
+        from = to;
+        days.forEach(start, to, day -> action.accept(LocalDate.ofEpochDay(day)));
+    }
+
+    @Override
+    public Spliterator<LocalDate> trySplit() {
+
+        if (to - from < MIN_SPLIT_DAYS)
+            return null;
+        final long middle = (from + (to - from) / 2) & WORD_ALIGNMENT;
+        if (middle <= from)
+            return null;
+        final DaySpliterator prefix = new DaySpliterator(this, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return days.count(from, to - 1);
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public Comparator<? super LocalDate> getComparator() {
+        return null;
+    }
+}
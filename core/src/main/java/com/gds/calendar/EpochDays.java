@@ -0,0 +1,40 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Conversions between epoch-day values, as used by the calendar day stores, and LocalDate values.
+ */
+final class EpochDays {
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    private EpochDays() {
+    }
+
+    /**
+     * Convert an epoch-day value into an optional date, LocalDateCalendarView.NO_DAY converts to an empty Optional.
+     */
+    static Optional<LocalDate> toDate(final long epochDay) {
+        return epochDay == LocalDateCalendarView.NO_DAY
+                ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(epochDay));
+    }
+
+    static DayOfWeek dayOfWeek(final long epochDay) {
+        // Epoch day zero, 1970-01-01, is a Thursday.
+        return DayOfWeek.of((int) Math.floorMod(epochDay + 3, (long) DAYS_PER_WEEK) + 1);
+    }
+
+    static long firstDayOfMonth(final LocalDate date) {
+        return date.toEpochDay() - date.getDayOfMonth() + 1;
+    }
+
+    static long lastDayOfMonth(final LocalDate date) {
+        return firstDayOfMonth(date) + date.lengthOfMonth() - 1;
+    }
+}
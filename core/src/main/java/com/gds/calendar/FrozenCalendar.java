@@ -0,0 +1,113 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * An immutable calendar, see LocalDateCalendar.freeze(). A frozen calendar never changes, needs no locks and can be
+ * shared between threads and cached indefinitely.
+ * <p>
+ * The withAdded and withRemoved methods return a new frozen calendar that differs only in the supplied dates. The
+ * new calendar shares every block of 512 days that is unchanged with this calendar, so deriving a calendar copies
+ * only the blocks that hold the supplied dates.
+ */
+public final class FrozenCalendar extends SnapshotCalendarView {
+
+    private final LocalDateCalendar calendar;
+
+    /**
+     * Wrap a calendar that is never mutated.
+     */
+    FrozenCalendar(final LocalDateCalendar calendar) {
+        this.calendar = calendar;
+    }
+
+    /**
+     * Create a frozen calendar that also includes the supplied date.
+     *
+     * @param date the date to include.
+     * @return the derived calendar, or this calendar if the date is already included.
+     * @throws IllegalArgumentException if the date is null or outside of the calendar range.
+     */
+    public FrozenCalendar withAdded(final LocalDate date) {
+        return withAdded(Collections.singletonList(date));
+    }
+
+    /**
+     * Create a frozen calendar that also includes the supplied dates.
+     *
+     * @param dates the dates to include.
+     * @return the derived calendar, or this calendar if all of the dates are already included.
+     * @throws IllegalArgumentException if dates or any of the dates is null or if any of the dates is outside of the
+     *                                  calendar range.
+     */
+    public FrozenCalendar withAdded(final Collection<LocalDate> dates) {
+
+        notNull(dates, "Mandatory argument 'dates' is missing.");
+        for (final LocalDate date : dates) {
+            notNull(date, "Mandatory argument 'dates' contains a null date.");
+            if (isOutsideOfCalendarRange(date))
+                throw new IllegalArgumentException("Date supplied is outside of calendar range [" + date + "].");
+        }
+        return derive(calendar.with(epochDays(dates), true));
+    }
+
+    /**
+     * Create a frozen calendar that does not include the supplied date.
+     *
+     * @param date the date to exclude.
+     * @return the derived calendar, or this calendar if the date is not included.
+     * @throws IllegalArgumentException if the date is null.
+     */
+    public FrozenCalendar withRemoved(final LocalDate date) {
+        return withRemoved(Collections.singletonList(date));
+    }
+
+    /**
+     * Create a frozen calendar that does not include the supplied dates, dates that are not included are ignored.
+     *
+     * @param dates the dates to exclude.
+     * @return the derived calendar, or this calendar if none of the dates are included.
+     * @throws IllegalArgumentException if dates or any of the dates is null.
+     */
+    public FrozenCalendar withRemoved(final Collection<LocalDate> dates) {
+
+        notNull(dates, "Mandatory argument 'dates' is missing.");
+        for (final LocalDate date : dates)
+            notNull(date, "Mandatory argument 'dates' contains a null date.");
+        return derive(calendar.with(epochDays(dates), false));
+    }
+
+    /**
+     * Create a mutable copy of this calendar, with no listeners.
+     *
+     * @return a new LocalDateCalendar with the same name, range and dates as this calendar.
+     */
+    public LocalDateCalendar toLocalDateCalendar() {
+        return calendar.snapshot();
+    }
+
+    @Override
+    LocalDateCalendar current() {
+        return calendar;
+    }
+
+    private FrozenCalendar derive(final LocalDateCalendar derived) {
+        return derived == calendar ? this : new FrozenCalendar(derived);
+    }
+
+    private static long[] epochDays(final Collection<LocalDate> dates) {
+
+        final long[] epochDays = new long[dates.size()];
+        int index = 0;
+        for (final LocalDate date : dates)
+            epochDays[index++] = date.toEpochDay();
+        return epochDays;
+    }
+}
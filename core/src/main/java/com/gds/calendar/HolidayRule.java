@@ -0,0 +1,157 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.springframework.util.Assert.noNullElements;
+import static org.springframework.util.Assert.notEmpty;
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A rule that yields the dates of a holiday in a given year, for example, "25 December", "Easter Monday" or "first
+ * Monday in May". Rules are evaluated a year at a time by a RuleBasedCalendar, which excludes the yielded dates.
+ */
+@FunctionalInterface
+public interface HolidayRule {
+
+    /**
+     * @param year the year to evaluate the rule for.
+     * @return the dates of the holiday in the supplied year, none if the holiday does not occur in that year. Dates
+     * may fall outside of the year, for example, when a holiday on 31 December is rolled to the following Monday.
+     */
+    List<LocalDate> datesIn(Year year);
+
+    /**
+     * A rule whose dates that fall on a Saturday or Sunday are moved to the next weekday, Monday to Friday, see
+     * rolledToNextWeekday(DayRule).
+     */
+    default HolidayRule rolledToNextWeekday() {
+        return rolledToNextWeekday(DayRule.weekdays());
+    }
+
+    /**
+     * A rule whose dates that fall on a day the supplied rule does not include, a weekend day, are moved to the next
+     * day that it does include, the substitute day. For example, where the weekend is Friday and Saturday, a holiday
+     * on a Friday moves to the Sunday. A substitute day that is already one of the rule's dates, or another date's
+     * substitute, moves on to the next weekday that is not. Holidays that can collide must therefore be rolled as one
+     * rule, for example, when 25 December is a Saturday, allOf(fixed(DECEMBER, 25), fixed(DECEMBER, 26))
+     * .rolledToNextWeekday() yields Monday 27 and Tuesday 28 December. Dates are yielded in ascending order.
+     *
+     * @param weekdays the rule that includes the weekdays, the days a holiday may fall on.
+     * @throws IllegalArgumentException if weekdays is null.
+     * @throws IllegalStateException    when evaluated, if a date has no substitute within the following year.
+     */
+    default HolidayRule rolledToNextWeekday(final DayRule weekdays) {
+
+        notNull(weekdays, "Mandatory argument 'weekdays' is missing.");
+        return year -> {
+            final List<LocalDate> dates = datesIn(year).stream().sorted().distinct().collect(Collectors.toList());
+            final Set<LocalDate> holidays = dates.stream().filter(weekdays::includes)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            for (final LocalDate date : dates) {
+                if (weekdays.includes(date))
+                    continue;
+                LocalDate substitute = date.plusDays(1);
+                while (!weekdays.includes(substitute) || holidays.contains(substitute)) {
+                    substitute = substitute.plusDays(1);
+                    if (substitute.isAfter(date.plusYears(1)))
+                        throw new IllegalStateException("No substitute weekday found for holiday [" + date + "].");
+                }
+                holidays.add(substitute);
+            }
+            return new ArrayList<>(holidays);
+        };
+    }
+
+    /**
+     * @deprecated the substitute day is not always a Monday, use rolledToNextWeekday(), which behaves identically.
+     */
+    @Deprecated
+    default HolidayRule rolledToMonday() {
+        return rolledToNextWeekday();
+    }
+
+    /**
+     * A rule that yields the dates of all of the supplied rules.
+     *
+     * @throws IllegalArgumentException if no rules are supplied or any rule is null.
+     */
+    static HolidayRule allOf(final HolidayRule... rules) {
+
+        notEmpty(rules, "Mandatory argument 'rules' is missing or empty.");
+        noNullElements(rules, "Mandatory argument 'rules' contains a null rule.");
+        final HolidayRule[] copy = rules.clone();
+        return year -> Arrays.stream(copy).flatMap(rule -> rule.datesIn(year).stream()).collect(Collectors.toList());
+    }
+
+    /**
+     * A holiday on the same day every year, 29 February only occurs in leap years.
+     *
+     * @throws IllegalArgumentException if month is null or the month never has the supplied day.
+     */
+    static HolidayRule fixed(final Month month, final int dayOfMonth) {
+
+        notNull(month, "Mandatory argument 'month' is missing.");
+        if (dayOfMonth < 1 || dayOfMonth > month.maxLength())
+            throw new IllegalArgumentException("Day of month supplied is not in " + month + " [" + dayOfMonth + "].");
+        return year -> year.isValidMonthDay(MonthDay.of(month, dayOfMonth))
+                ? Collections.singletonList(year.atMonth(month).atDay(dayOfMonth)) : Collections.emptyList();
+    }
+
+    /**
+     * A holiday on the nth occurrence of a day of the week in a month, for example, the first Monday in May is
+     * nthDayOfWeek(1, MONDAY, MAY). Negative ordinals count back from the end of the month, -1 is the last
+     * occurrence. A fifth occurrence does not happen in every month, the rule yields no date in those years.
+     *
+     * @throws IllegalArgumentException if dayOfWeek or month is null.
+     * @throws IllegalStateException    if ordinal is zero or more than five occurrences from either end.
+     */
+    static HolidayRule nthDayOfWeek(final int ordinal, final DayOfWeek dayOfWeek, final Month month) {
+
+        notNull(dayOfWeek, "Mandatory argument 'dayOfWeek' is missing.");
+        notNull(month, "Mandatory argument 'month' is missing.");
+        state(ordinal != 0 && Math.abs(ordinal) <= 5, "Argument 'ordinal' must be between -5 and 5 and not 0");
+        return year -> {
+            final LocalDate date = year.atMonth(month).atDay(1)
+                    .with(TemporalAdjusters.dayOfWeekInMonth(ordinal, dayOfWeek));
+            return date.getMonth() == month ? Collections.singletonList(date) : Collections.emptyList();
+        };
+    }
+
+    /**
+     * A holiday a fixed number of days from Western (Gregorian) Easter Sunday, for example, Good Friday is
+     * easterRelative(-2) and Easter Monday is easterRelative(1).
+     */
+    static HolidayRule easterRelative(final int offsetDays) {
+
+        return year -> {
+            // Anonymous Gregorian algorithm (Meeus/Jones/Butcher).
+            final int y = year.getValue();
+            final int a = y % 19;
+            final int b = y / 100;
+            final int c = y % 100;
+            final int f = (b + 8) / 25;
+            final int g = (b - f + 1) / 3;
+            final int h = (19 * a + b - b / 4 - g + 15) % 30;
+            final int l = (32 + 2 * (b % 4) + 2 * (c / 4) - h - c % 4) % 7;
+            final int m = (a + 11 * h + 22 * l) / 451;
+            final int n = h + l - 7 * m + 114;
+            return Collections.singletonList(LocalDate.of(y, n / 31, n % 31 + 1).plusDays(offsetDays));
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.gds.calendar;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * The listeners registered with a calendar, each subscribed to a set of event types. Calendars ask wants(...) before
+ * building an event context, the context, its dates and its message are only created when at least one listener is
+ * subscribed to the event type, so a calendar with no interested listeners allocates nothing to raise an event.
+ * <p>
+ * Subscriptions are held in an array that is replaced, never modified, when a listener is registered or
+ * unregistered. Dispatch walks the array current at the start of the dispatch without locking, so listeners may be
+ * registered or unregistered on another thread, or by a listener, while events are being dispatched. A listener
+ * unregistered during a dispatch may still be notified by that dispatch.
+ * <p>
+ * A listener may be held weakly, the registry then does not keep it reachable. A weakly held listener that has been
+ * garbage collected is purged by the first dispatch, or registration, that finds it, so dispatch cost follows the
+ * number of live listeners.
+ */
+final class ListenerRegistry {
+
+    private static final Subscription[] NONE = new Subscription[0];
+    private volatile Subscription[] subscriptions = NONE;
+    // The union of the subscribed event types, replaced rather than modified.
+    private volatile Set<CalendarChangeEvent> subscribed = EnumSet.noneOf(CalendarChangeEvent.class);
+
+    /**
+     * Subscribe a listener to the supplied event types, a listener registered more than once is notified once for
+     * each registration that is subscribed to the event type.
+     *
+     * @param weak whether the registry holds the listener weakly.
+     */
+    synchronized void register(final LocalDateCalendarListener listener, final Set<CalendarChangeEvent> events,
+                               final boolean weak) {
+
+        final List<Subscription> replacement = live();
+        replacement.add(new Subscription(listener, EnumSet.copyOf(events), weak));
+        publish(replacement);
+    }
+
+    /**
+     * Remove every registration of the supplied listener, compared by identity.
+     *
+     * @return true if the listener was registered.
+     */
+    synchronized boolean unregister(final LocalDateCalendarListener listener) {
+
+        final List<Subscription> replacement = live();
+        final boolean removed = replacement.removeIf(subscription -> subscription.listener() == listener);
+        publish(replacement);
+        return removed;
+    }
+
+    /**
+     * Is any listener subscribed to the supplied event type, if not there is no need to build the event's context.
+     */
+    boolean wants(final CalendarChangeEvent event) {
+        return subscribed.contains(event);
+    }
+
+    /**
+     * The event types at least one listener is subscribed to.
+     */
+    EnumSet<CalendarChangeEvent> getSubscribedEvents() {
+        return EnumSet.copyOf(subscribed);
+    }
+
+    /**
+     * Notify every listener subscribed to the event type of the supplied context.
+     */
+    void fire(final ChangeEventContext context) {
+
+        final CalendarChangeEvent event = context.getCalendarChangeEvent();
+        boolean collected = false;
+        for (final Subscription subscription : subscriptions) {
+            final LocalDateCalendarListener listener = subscription.listener();
+            if (listener == null)
+                collected = true;
+            else if (subscription.events.contains(event))
+                listener.event(context);
+        }
+        if (collected)
+            purge();
+    }
+
+    private synchronized void purge() {
+        publish(live());
+    }
+
+    /**
+     * The current subscriptions less those whose weakly held listener has been garbage collected.
+     */
+    private List<Subscription> live() {
+
+        final List<Subscription> live = new ArrayList<>(subscriptions.length + 1);
+        for (final Subscription subscription : subscriptions)
+            if (subscription.listener() != null)
+                live.add(subscription);
+        return live;
+    }
+
+    private void publish(final List<Subscription> replacement) {
+
+        final Set<CalendarChangeEvent> union = EnumSet.noneOf(CalendarChangeEvent.class);
+        replacement.forEach(subscription -> union.addAll(subscription.events));
+        subscriptions = replacement.isEmpty() ? NONE : replacement.toArray(NONE);
+        subscribed = union;
+    }
+
+    private static final class Subscription {
+
+        private final LocalDateCalendarListener listener;
+        private final WeakReference<LocalDateCalendarListener> reference;
+        private final Set<CalendarChangeEvent> events;
+
+        private Subscription(final LocalDateCalendarListener listener, final Set<CalendarChangeEvent> events,
+                             final boolean weak) {
+
+            this.listener = weak ? null : listener;
+            this.reference = weak ? new WeakReference<>(listener) : null;
+            this.events = events;
+        }
+
+        /**
+         * The subscribed listener, or null if it was held weakly and has been garbage collected.
+         */
+        private LocalDateCalendarListener listener() {
+            return reference == null ? listener : reference.get();
+        }
+    }
+}
@@ -6,13 +6,21 @@ import java.time.Month;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.Supplier;
 
 import static java.time.LocalDate.now;
+import static org.springframework.util.Assert.noNullElements;
+import static org.springframework.util.Assert.notEmpty;
 import static org.springframework.util.Assert.notNull;
 import static org.springframework.util.Assert.state;
 
@@ -37,16 +45,17 @@ import static org.springframework.util.Assert.state;
  * The string-based query language may be useful to use as a translation layer between a user interface free-text query
  * and the com.gds.com.gds.calendar object or for use within other API's as a simple lookup mechanism.
  */
-public class LocalDateCalendar {
+public class LocalDateCalendar implements LocalDateCalendarView {
 
-    private static final LocalDateCalendar emptyCalendar = new LocalDateCalendar().removeWeekDays().removeWeekendDays();
     private static final int DEF_CALENDAR_PERIOD = 365;
     private static final String DEF_CALENDAR_NAME = "default";
+    private static final LocalDateCalendar emptyCalendar = emptyOver(now(), DEF_CALENDAR_NAME, DEF_CALENDAR_PERIOD);
     private final String calendarName;
-    private final List<LocalDate> days = new LinkedList<>();
-    private final LocalDate endDate;
-    private final int calendarPeriod;
-    private final List<LocalDateCalendarListener> listenerRegistry = new ArrayList<>();
+    private final DayBitmap days;
+    private MonthIndex months;
+    private LocalDate endDate;
+    private int calendarPeriod;
+    private final ListenerRegistry listenerRegistry = new ListenerRegistry();
 
     /**
      * Create a com.gds.com.gds.calendar with a default duration, default name and default end date of today.
@@ -82,57 +91,439 @@ public class LocalDateCalendar {
                              final int calendarPeriod,
                              final LocalDateCalendarListener... listeners) {
 
+        this(endDate, calendarName, calendarPeriod);
+        days.fill();
+        for (final LocalDateCalendarListener listener : listeners)
+            register(listener);
+        if (listenerRegistry.wants(CalendarChangeEvent.INITIALISED))
+            listenerRegistry.fire(context(CalendarChangeEvent.INITIALISED, () -> "Calendar initialised.", this));
+    }
+
+    /**
+     * Create a calendar that includes no days, no events are raised as there can be no registered listeners.
+     */
+    private LocalDateCalendar(final LocalDate endDate, final String calendarName, final int calendarPeriod) {
+
         notNull(endDate, "Mandatory argument 'endDate' is missing");
         notNull(calendarName, "Mandatory argument 'calendarName' is missing");
         state(calendarPeriod > 0, "Argument 'calendarPeriod' must be > 0");
         this.endDate = endDate;
         this.calendarPeriod = calendarPeriod;
         this.calendarName = calendarName;
-        for (int index = 0; index < calendarPeriod; index++)
-            days.add(index, endDate.minusDays(index));
-        listenerRegistry.addAll(Arrays.asList(listeners));
-        listenerRegistry.forEach(listener -> listener.event(context(CalendarChangeEvent.INITIALISED, "Calendar initialised.", this)));
+        this.days = new DayBitmap(endDate.toEpochDay() - (calendarPeriod - 1), endDate.toEpochDay());
+        this.months = new MonthIndex(days.getFirstDay(), days.getLastDay());
     }
 
     /**
-     * Get the day in the com.gds.com.gds.calendar before the day supplied. Note that the day before may not be numerically
-     * equivalent minus 1 as that date may not be present in the com.gds.com.gds.calendar.
+     * Create a calendar that includes no days. This is equivalent to constructing a calendar and then calling
+     * removeWeekDays().removeWeekendDays() but does no per-day work and raises no events.
      *
-     * @param date the search key used for locating the day before.
-     * @return an optional date representing the day before the date supplied, if no day before is found then an
-     * optional null will be returned.
-     * @throws IllegalArgumentException if the date supplied is null or is located is outside of the com.gds.com.gds.calendar
-     *                                  dates range, according to com.gds.com.gds.calendar start and com.gds.com.gds.calendar end dates.
+     * @param endDate        the last day of the calendar.
+     * @param calendarName   friendly name of the calendar.
+     * @param calendarPeriod specification of the length (in days) of the calendar.
+     * @return a new empty calendar.
+     * @throws IllegalArgumentException if endDate or calendarName is null.
+     * @throws IllegalStateException    if calendarPeriod is less than or equal to zero.
      */
-    public Optional<LocalDate> getDayBefore(final LocalDate date) {
+    public static LocalDateCalendar emptyOver(final LocalDate endDate, final String calendarName,
+                                              final int calendarPeriod) {
+        return new LocalDateCalendar(endDate, calendarName, calendarPeriod);
+    }
 
-        notNull(date, "Mandatory argument 'date' is missing.");
-        if (isOutsideOfCalendarRange(date))
-            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
-        if (date.isEqual(getStartDate()))
-            throw new IllegalArgumentException("Date before will be outside of calendar range.");
-        if (days.isEmpty())
-            throw new IllegalArgumentException("Cannot use getDayBefore(...) on an empty com.gds.com.gdscalendar.");
-        if (days.indexOf(date) > -1)
-            return Optional.of(days.get(days.indexOf(date) + 1));
-        int nearestAfterIndex = days.size() - 1;
-        for (int index = days.size() - 1; index >= 0; index--)
-            if (date.isBefore(days.get(index)))
-                nearestAfterIndex = index;
-        return Optional.of(days.get(nearestAfterIndex));
+    /**
+     * Create a calendar that includes exactly the supplied dates. This is equivalent to creating an empty calendar
+     * and adding each date in turn but is a single pass over the dates and raises no events. Duplicate dates are
+     * ignored.
+     *
+     * @param endDate        the last day of the calendar.
+     * @param calendarName   friendly name of the calendar.
+     * @param calendarPeriod specification of the length (in days) of the calendar.
+     * @param dates          the dates to be included in the calendar.
+     * @return a new calendar.
+     * @throws IllegalArgumentException if endDate, calendarName, dates or any of the dates is null or if any of the
+     *                                  dates is outside of the calendar range.
+     * @throws IllegalStateException    if calendarPeriod is less than or equal to zero.
+     */
+    public static LocalDateCalendar of(final LocalDate endDate, final String calendarName, final int calendarPeriod,
+                                       final Collection<LocalDate> dates) {
+
+        notNull(dates, "Mandatory argument 'dates' is missing.");
+        final LocalDateCalendar calendar = new LocalDateCalendar(endDate, calendarName, calendarPeriod);
+        for (final LocalDate date : dates) {
+            notNull(date, "Mandatory argument 'dates' contains a null date.");
+            if (calendar.isOutsideOfCalendarRange(date))
+                throw new IllegalArgumentException("Date supplied is outside of calendar range [" + date + "].");
+            calendar.days.add(date.toEpochDay());
+        }
+        return calendar;
+    }
+
+    /**
+     * Create a calendar over the range of the supplied store, no events are raised.
+     */
+    private LocalDateCalendar(final String calendarName, final DayBitmap days) {
+        this(calendarName, days, new MonthIndex(days.getFirstDay(), days.getLastDay()));
+    }
+
+    private LocalDateCalendar(final String calendarName, final DayBitmap days, final MonthIndex months) {
+
+        this.endDate = LocalDate.ofEpochDay(days.getLastDay());
+        this.calendarPeriod = (int) (days.getLastDay() - days.getFirstDay() + 1);
+        this.calendarName = calendarName;
+        this.days = days;
+        this.months = months;
+    }
+
+    /**
+     * Create an independent copy of this calendar, with no listeners, that is safe to query from many threads once
+     * published as long as it is never mutated.
+     */
+    LocalDateCalendar snapshot() {
+        return new LocalDateCalendar(calendarName, days.copy(), months);
+    }
+
+    /**
+     * Create a copy of this calendar, with no listeners, that shares this calendar's day store blocks rather than
+     * copying them, see DayBitmap.share(). The copy is safe to query from many threads once published and must never
+     * be mutated, this calendar may go on being mutated by a single thread.
+     */
+    LocalDateCalendar sharedSnapshot() {
+        return new LocalDateCalendar(calendarName, days.share(), months);
+    }
+
+    /**
+     * Create a calendar that differs from this calendar only in the supplied days, sharing the unchanged blocks of
+     * this calendar's day store, see DayBitmap.with(...). This calendar must never be mutated afterwards.
+     */
+    LocalDateCalendar with(final long[] epochDays, final boolean included) {
+
+        final DayBitmap derived = days.with(epochDays, included);
+        return derived == days ? this : new LocalDateCalendar(calendarName, derived, months);
+    }
+
+    /**
+     * The day store of this calendar, for classes in this package that build their own indexes from it. The store
+     * must not be mutated.
+     */
+    DayBitmap days() {
+        return days;
+    }
+
+    /**
+     * Create an immutable snapshot of this calendar. The snapshot is a copy of the calendar as it is now, later
+     * changes to this calendar are not reflected in it, and is safe to share between threads and to cache
+     * indefinitely. Listeners are not copied.
+     *
+     * @return the frozen calendar.
+     */
+    public FrozenCalendar freeze() {
+        return new FrozenCalendar(snapshot());
+    }
+
+    /**
+     * Move the end date of this calendar forward, in place, with every new day included. See
+     * extendEndDate(LocalDate, DayRule).
+     *
+     * @param newEndDate the new last day of the calendar.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if newEndDate is null.
+     * @throws IllegalStateException    if newEndDate is before the calendar end date.
+     */
+    public LocalDateCalendar extendEndDate(final LocalDate newEndDate) {
+        return extendEndDate(newEndDate, DayRule.allDays());
+    }
+
+    /**
+     * Move the end date of this calendar forward, in place, including the new days that the supplied rule includes.
+     * Extending a calendar is equivalent to building a new calendar over the wider range and replaying every change
+     * made to this one, but the existing days are not copied and listeners stay registered. All registered listeners
+     * are notified with a single RANGE_CHANGED event carrying the newly included days, latest date first. No event is
+     * raised if the end date does not change.
+     * <p>
+     * Lists previously returned by this calendar, such as getAllDates(), keep the range they were created with.
+     *
+     * @param newEndDate the new last day of the calendar.
+     * @param rule       the rule deciding which of the new days are included.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if newEndDate or rule is null.
+     * @throws IllegalStateException    if newEndDate is before the calendar end date.
+     */
+    public LocalDateCalendar extendEndDate(final LocalDate newEndDate, final DayRule rule) {
+
+        notNull(newEndDate, "Mandatory argument 'newEndDate' is missing.");
+        notNull(rule, "Mandatory argument 'rule' is missing.");
+        state(!newEndDate.isBefore(endDate), "Argument 'newEndDate' must not be before the calendar end date");
+        return extend(days.getFirstDay(), newEndDate.toEpochDay(), rule);
+    }
+
+    /**
+     * Move the start date of this calendar back, in place, with every new day included. See
+     * extendStartDate(LocalDate, DayRule).
+     *
+     * @param newStartDate the new first day of the calendar.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if newStartDate is null.
+     * @throws IllegalStateException    if newStartDate is after the calendar start date.
+     */
+    public LocalDateCalendar extendStartDate(final LocalDate newStartDate) {
+        return extendStartDate(newStartDate, DayRule.allDays());
+    }
+
+    /**
+     * Move the start date of this calendar back, in place, including the new days that the supplied rule includes.
+     * See extendEndDate(LocalDate, DayRule) for the events raised.
+     *
+     * @param newStartDate the new first day of the calendar.
+     * @param rule         the rule deciding which of the new days are included.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if newStartDate or rule is null.
+     * @throws IllegalStateException    if newStartDate is after the calendar start date.
+     */
+    public LocalDateCalendar extendStartDate(final LocalDate newStartDate, final DayRule rule) {
+
+        notNull(newStartDate, "Mandatory argument 'newStartDate' is missing.");
+        notNull(rule, "Mandatory argument 'rule' is missing.");
+        state(!newStartDate.isAfter(getStartDate()),
+                "Argument 'newStartDate' must not be after the calendar start date");
+        return extend(newStartDate.toEpochDay(), days.getLastDay(), rule);
+    }
+
+    private LocalDateCalendar extend(final long newFirstDay, final long newLastDay, final DayRule rule) {
+
+        final long firstDay = days.getFirstDay();
+        final long lastDay = days.getLastDay();
+        if (newFirstDay == firstDay && newLastDay == lastDay)
+            return this;
+        days.extend(newFirstDay, newLastDay);
+        months = new MonthIndex(newFirstDay, newLastDay);
+        endDate = LocalDate.ofEpochDay(newLastDay);
+        calendarPeriod = (int) (newLastDay - newFirstDay + 1);
+        // Only the days outside of the old range are visited, latest first, the old range is skipped.
+        final boolean notify = listenerRegistry.wants(CalendarChangeEvent.RANGE_CHANGED);
+        final List<LocalDate> added = notify ? new ArrayList<>() : Collections.emptyList();
+        for (long day = newLastDay > lastDay ? newLastDay : firstDay - 1; day >= newFirstDay;
+             day = day == lastDay + 1 ? firstDay - 1 : day - 1) {
+            final LocalDate date = LocalDate.ofEpochDay(day);
+            if (rule.includes(date) && days.add(day) && notify)
+                added.add(date);
+        }
+        if (notify)
+            listenerRegistry.fire(context(CalendarChangeEvent.RANGE_CHANGED, () -> "Calendar range changed to ["
+                    + getStartDate() + ", " + endDate + "].", this, added.toArray(new LocalDate[]{})));
+        return this;
     }
 
     /**
-     * Locate the supplied date in the com.gds.com.gds.calendar.
+     * Create a new calendar that includes every date included in any of the supplied calendars. The new calendar
+     * covers the combined range of the supplied calendars and is named after them. The supplied calendars are not
+     * modified and no events are raised.
      *
-     * @param date used as a search key.
-     * @return the date located in this com.gds.com.gds.calendar if it exists, an optional null otherwise.
-     * @throws IllegalArgumentException if the date argument is null.
+     * @param calendars the calendars to combine.
+     * @return a new calendar.
+     * @throws IllegalArgumentException if no calendars are supplied or any calendar is null.
      */
-    public Optional<LocalDate> getDay(final LocalDate date) {
+    public static LocalDateCalendar union(final LocalDateCalendar... calendars) {
+        return combine(" | ", (left, right) -> left | right, false, calendars);
+    }
+
+    /**
+     * Create a new calendar that includes only the dates included in every one of the supplied calendars, for example,
+     * the days that are business days in both London and New York. The new calendar covers the combined range of the
+     * supplied calendars and is named after them. The supplied calendars are not modified and no events are raised.
+     *
+     * @param calendars the calendars to combine.
+     * @return a new calendar.
+     * @throws IllegalArgumentException if no calendars are supplied or any calendar is null.
+     */
+    public static LocalDateCalendar intersection(final LocalDateCalendar... calendars) {
+        return combine(" & ", (left, right) -> left & right, false, calendars);
+    }
+
+    /**
+     * Create a new calendar that includes the dates included in the first supplied calendar that are not included in
+     * any of the other supplied calendars. The new calendar covers the range of the first calendar and is named after
+     * the supplied calendars. The supplied calendars are not modified and no events are raised.
+     *
+     * @param calendars the calendars to combine, the first calendar is the one that dates are removed from.
+     * @return a new calendar.
+     * @throws IllegalArgumentException if no calendars are supplied or any calendar is null.
+     */
+    public static LocalDateCalendar difference(final LocalDateCalendar... calendars) {
+        return combine(" - ", (left, right) -> left & ~right, true, calendars);
+    }
+
+    /**
+     * Create a new calendar that includes the dates included in an odd number of the supplied calendars, for two
+     * calendars that is the dates included in one calendar but not the other. The new calendar covers the combined
+     * range of the supplied calendars and is named after them. The supplied calendars are not modified and no events
+     * are raised.
+     *
+     * @param calendars the calendars to combine.
+     * @return a new calendar.
+     * @throws IllegalArgumentException if no calendars are supplied or any calendar is null.
+     */
+    public static LocalDateCalendar symmetricDifference(final LocalDateCalendar... calendars) {
+        return combine(" ^ ", (left, right) -> left ^ right, false, calendars);
+    }
+
+    private static LocalDateCalendar combine(final String nameSeparator, final LongBinaryOperator operator,
+                                             final boolean firstCalendarRange, final LocalDateCalendar... calendars) {
+
+        notEmpty(calendars, "Mandatory argument 'calendars' is missing.");
+        noNullElements(calendars, "Mandatory argument 'calendars' contains a null calendar.");
+        long firstDay = calendars[0].days.getFirstDay();
+        long lastDay = calendars[0].days.getLastDay();
+        final DayBitmap[] stores = new DayBitmap[calendars.length];
+        final StringJoiner name = new StringJoiner(nameSeparator);
+        for (int index = 0; index < calendars.length; index++) {
+            stores[index] = calendars[index].days;
+            name.add(calendars[index].getName());
+            if (!firstCalendarRange) {
+                firstDay = Math.min(firstDay, stores[index].getFirstDay());
+                lastDay = Math.max(lastDay, stores[index].getLastDay());
+            }
+        }
+        return new LocalDateCalendar(name.toString(), DayBitmap.combine(firstDay, lastDay, operator, stores));
+    }
+
+    @Override
+    public boolean isIncluded(final long epochDay) {
+        return days.contains(epochDay);
+    }
+
+    @Override
+    public long nextIncluded(final long epochDay) {
+        return epochDay == Long.MAX_VALUE ? NO_DAY : days.next(epochDay + 1);
+    }
+
+    @Override
+    public long previousIncluded(final long epochDay) {
+        return epochDay == Long.MIN_VALUE ? NO_DAY : days.previous(epochDay - 1);
+    }
+
+    @Override
+    public long plusIncluded(final long epochDay, final int includedDays) {
+
+        if (includedDays > 0)
+            return dayAtRank(days.rank(epochDay + 1) + (includedDays - 1L));
+        if (includedDays < 0)
+            return dayAtRank(days.rank(epochDay) + (long) includedDays);
+        return days.contains(epochDay) ? epochDay : NO_DAY;
+    }
+
+    @Override
+    public int countIncludedBetween(final long from, final long to) {
+        return days.rank(to) - days.rank(from);
+    }
+
+    @Override
+    public int includedDaysInRange(final long from, final long to, final int[] sink) {
+
+        notNull(sink, "Mandatory argument 'sink' is missing.");
+        return days.copyTo(from, to, sink);
+    }
+
+    /**
+     * Get all dates in the year and month specified, latest date first. The list returned is an unmodifiable, live
+     * view of the month rather than a copy, its size and elements are answered from the month index and the day
+     * rank index without walking the month's dates.
+     *
+     * @param year  the year filter.
+     * @param month the month filter.
+     * @return a list of dates that are managed by the calendar, filtered by year and month.
+     * @throws IllegalArgumentException if the supplied year is null.
+     * @throws IllegalArgumentException if the supplied month is null.
+     */
+    @Override
+    public List<LocalDate> getDaysInMonth(final Year year, final Month month) {
+
+        notNull(year, "Mandatory argument 'year' is missing.");
+        notNull(month, "Mandatory argument 'month' is missing.");
+        final long prolepticMonth = MonthIndex.prolepticMonth(year, month);
+        return new DayList(days, months.firstDay(prolepticMonth), months.lastDay(prolepticMonth));
+    }
+
+    /**
+     * Get all dates in the year specified, latest date first. The list returned is an unmodifiable, live view of the
+     * year rather than a copy.
+     *
+     * @param year the year filter.
+     * @return a list of dates that are managed by the calendar, filtered by year.
+     * @throws IllegalArgumentException if the supplied year is null.
+     */
+    @Override
+    public List<LocalDate> getDaysInYear(final Year year) {
+
+        notNull(year, "Mandatory argument 'year' is missing.");
+        return new DayList(days, months.firstDayOfYear(year), months.lastDayOfYear(year));
+    }
+
+    /**
+     * Get all dates included in the calendar between the two supplied dates, inclusive, latest date first. The list
+     * returned is an unmodifiable, live view of the range rather than a copy and is created in constant time.
+     *
+     * @param from the earliest date of interest.
+     * @param to   the latest date of interest.
+     * @return a list of dates that are managed by the calendar, latest date first.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    @Override
+    public List<LocalDate> getDaysBetween(final LocalDate from, final LocalDate to) {
+
+        notNull(from, "Mandatory argument 'from' is missing.");
+        notNull(to, "Mandatory argument 'to' is missing.");
+        return new DayList(days, Math.max(from.toEpochDay(), days.getFirstDay()),
+                Math.min(to.toEpochDay(), days.getLastDay()));
+    }
+
+    /**
+     * See LocalDateCalendarView.forEachIncluded(long, long, IntConsumer), the days are read a bitmap word at a time.
+     */
+    @Override
+    public void forEachIncluded(final long from, final long to, final IntConsumer action) {
+
+        notNull(action, "Mandatory argument 'action' is missing.");
+        days.forEach(from, to, day -> action.accept((int) day));
+    }
+
+    /**
+     * A spliterator over the dates included in the calendar between the two supplied dates, inclusive, in ascending
+     * order. The spliterator splits its range of days in half, on bitmap word boundaries, so parallel streams over a
+     * large calendar divide the work evenly. The calendar must not be modified while the spliterator is in use.
+     *
+     * @param from the earliest date of interest.
+     * @param to   the latest date of interest.
+     * @return a spliterator over the included dates.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    @Override
+    public Spliterator<LocalDate> spliterator(final LocalDate from, final LocalDate to) {
+
+        notNull(from, "Mandatory argument 'from' is missing.");
+        notNull(to, "Mandatory argument 'to' is missing.");
+        return new DaySpliterator(days, from.toEpochDay(), to.toEpochDay() + 1);
+    }
+
+    @Override
+    public Optional<LocalDate> getFirstDayOfTheMonth(final Year year, final Month month) {
+
+        notNull(year, "Mandatory argument 'year' is missing.");
+        notNull(month, "Mandatory argument 'month' is missing.");
+        final long prolepticMonth = MonthIndex.prolepticMonth(year, month);
+        final long firstDay = days.next(months.firstDay(prolepticMonth));
+        return firstDay <= months.lastDay(prolepticMonth) ? EpochDays.toDate(firstDay) : Optional.empty();
+    }
+
+    @Override
+    public Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date, final int monthSubtraction) {
 
         notNull(date, "Mandatory argument 'date' is missing.");
-        return days.stream().filter(date::equals).findFirst();
+        state(monthSubtraction >= 0, "Argument 'monthSubtraction' must be >= 0");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        final long prolepticMonth = MonthIndex.prolepticMonth(date) - monthSubtraction;
+        final long lastDay = days.previous(months.lastDay(prolepticMonth));
+        return lastDay >= months.firstDay(prolepticMonth) ? EpochDays.toDate(lastDay) : Optional.empty();
     }
 
     /**
@@ -143,8 +534,9 @@ public class LocalDateCalendar {
      */
     public LocalDateCalendar removeWeekendDays() {
         remove(DayOfWeek.SATURDAY).remove(DayOfWeek.SUNDAY);
-        listenerRegistry.forEach(listener -> listener.event(
-                context(CalendarChangeEvent.DAY_OF_WEEK_REMOVED, "All weekend dates have been removed from calendar.", this)));
+        if (listenerRegistry.wants(CalendarChangeEvent.DAY_OF_WEEK_REMOVED))
+            listenerRegistry.fire(context(CalendarChangeEvent.DAY_OF_WEEK_REMOVED,
+                    () -> "All weekend dates have been removed from calendar.", this));
         return this;
     }
 
@@ -157,8 +549,9 @@ public class LocalDateCalendar {
     public LocalDateCalendar removeWeekDays() {
         remove(DayOfWeek.MONDAY).remove(DayOfWeek.TUESDAY).remove(DayOfWeek.WEDNESDAY)
                 .remove(DayOfWeek.THURSDAY).remove(DayOfWeek.FRIDAY);
-        listenerRegistry.forEach(listener -> listener.event(
-                context(CalendarChangeEvent.DAY_OF_WEEK_REMOVED, "All weekday dates have been removed from calendar.", this)));
+        if (listenerRegistry.wants(CalendarChangeEvent.DAY_OF_WEEK_REMOVED))
+            listenerRegistry.fire(context(CalendarChangeEvent.DAY_OF_WEEK_REMOVED,
+                    () -> "All weekday dates have been removed from calendar.", this));
         return this;
     }
 
@@ -175,11 +568,11 @@ public class LocalDateCalendar {
     public LocalDateCalendar remove(final LocalDate date, final boolean ignoreNotLocated) {
 
         notNull(date, "Mandatory argument 'dates' is missing.");
-        if ((!ignoreNotLocated) && (!days.contains(date)))
+        if ((!ignoreNotLocated) && (!days.contains(date.toEpochDay())))
             throw new IllegalArgumentException("Date supplied is not managed by this calendar.");
-        if (days.remove(date))
-            listenerRegistry.forEach(listener -> listener.event(
-                    context(CalendarChangeEvent.DATE_REMOVED, "Date removed from calendar.", this, date)));
+        if (days.remove(date.toEpochDay()) && listenerRegistry.wants(CalendarChangeEvent.DATE_REMOVED))
+            listenerRegistry.fire(context(CalendarChangeEvent.DATE_REMOVED, () -> "Date removed from calendar.",
+                    this, date));
         return this;
     }
 
@@ -209,14 +602,23 @@ public class LocalDateCalendar {
     public LocalDateCalendar removeAll(final List<LocalDate> dates, final boolean ignoreUnknownDates) {
 
         notNull(dates, "Mandatory argument 'dates' is missing.");
-        if ((!ignoreUnknownDates) && (dates.stream().anyMatch(date -> !this.getDay(date).isPresent())))
+        if ((!ignoreUnknownDates) && (dates.stream().anyMatch(date -> !days.contains(date.toEpochDay()))))
             throw new IllegalArgumentException("One or more dates supplied is not managed by this calendar.");
-        if (days.removeAll(dates))
-            listenerRegistry.forEach(listener -> listener.event(
-                    context(CalendarChangeEvent.DATES_REMOVED, "Collection of dates removed from calendar.",
-                            this, dates.toArray(new LocalDate[]{}))
-                    )
-            );
+        final boolean notify = listenerRegistry.wants(CalendarChangeEvent.DATES_REMOVED);
+        if (!notify && !(dates instanceof DayList && ((DayList) dates).isViewOf(days))) {
+            for (final LocalDate date : dates)
+                days.remove(date.toEpochDay());
+            return this;
+        }
+        // Copied up front, the dates are reported to listeners or are a live view of this calendar, e.g.
+        // getDaysInMonth(...), that removing them would change.
+        final LocalDate[] removals = dates.toArray(new LocalDate[]{});
+        boolean removed = false;
+        for (final LocalDate date : removals)
+            removed |= days.remove(date.toEpochDay());
+        if (removed && notify)
+            listenerRegistry.fire(context(CalendarChangeEvent.DATES_REMOVED,
+                    () -> "Collection of dates removed from calendar.", this, removals));
         return this;
     }
 
@@ -244,18 +646,20 @@ public class LocalDateCalendar {
     public LocalDateCalendar remove(final DayOfWeek dayOfWeek) {
 
         notNull(dayOfWeek, "Mandatory argument 'dayOfWeek' is missing.");
-        final List<LocalDate> matchingDayOfWeeks = days.stream()
-                .filter(day -> day.getDayOfWeek().equals(dayOfWeek))
-                .collect(Collectors.toList());
-        if (days.removeAll(matchingDayOfWeeks))
-            listenerRegistry.forEach(listener -> listener.event(
-                    context(CalendarChangeEvent.DAY_OF_WEEK_REMOVED, "Day of Week removed [" + dayOfWeek + "]", this)));
+        if (days.removeDayOfWeek(dayOfWeek) > 0 && listenerRegistry.wants(CalendarChangeEvent.DAY_OF_WEEK_REMOVED))
+            listenerRegistry.fire(context(CalendarChangeEvent.DAY_OF_WEEK_REMOVED,
+                    () -> "Day of Week removed [" + dayOfWeek + "]", this));
         return this;
     }
 
     /**
      * Remove all dates in the supplied com.gds.com.gds.calendar from this com.gds.com.gds.calendar. All registered listeners are notified of com.gds.com.gds.calendar
      * updates as a result of this method execution.
+     * Once every date has been removed a DATE_REMOVED event is raised for each removed date, latest first, followed by
+     * a CALENDAR_REMOVED event.
+     * <p>
+     * The two calendars are merged a bitmap word at a time so the cost is proportional to the length of the supplied
+     * calendar in words rather than the number of dates it holds.
      *
      * @param calendar the com.gds.com.gds.calendar supplying a list of dates to remove from this com.gds.com.gds.calendar.
      * @return the com.gds.com.gds.calendar instance.
@@ -265,28 +669,53 @@ public class LocalDateCalendar {
 
         notNull(calendar, "Mandatory argument 'calendar' is missing.");
         state(this != calendar, "A calendar cannot be removed from itself.");
-        calendar.days.forEach(date -> this.remove(date, true));
-        listenerRegistry.forEach(listener -> listener.event(
-                context(CalendarChangeEvent.CALENDAR_REMOVED, "Calendar dates from " + calendar.getName() + " removed from "
-                        + getName() + ".", calendar)));
+        if (listenerRegistry.wants(CalendarChangeEvent.DATE_REMOVED)) {
+            final List<LocalDate> removed = new ArrayList<>();
+            days.andNot(calendar.days, day -> removed.add(LocalDate.ofEpochDay(day)));
+            for (int index = removed.size() - 1; index >= 0; index--)
+                listenerRegistry.fire(context(CalendarChangeEvent.DATE_REMOVED, () -> "Date removed from calendar.",
+                        this, removed.get(index)));
+        } else {
+            days.andNot(calendar.days, day -> { });
+        }
+        if (listenerRegistry.wants(CalendarChangeEvent.CALENDAR_REMOVED))
+            listenerRegistry.fire(context(CalendarChangeEvent.CALENDAR_REMOVED, () -> "Calendar dates from "
+                    + calendar.getName() + " removed from " + getName() + ".", calendar));
         return this;
     }
 
     /**
      * Add all dates located in the supplied com.gds.com.gds.calendar to this com.gds.com.gds.calendar. Exceptions will not be thrown if the com.gds.com.gds.calendar
      * is empty. All registered listeners are notified of com.gds.com.gds.calendar updates as a result of this method execution.
+     * A single DATES_ADDED event carrying the newly added dates, latest first, is followed by a CALENDAR_ADDED event.
+     * <p>
+     * The two calendars are merged a bitmap word at a time so the cost is proportional to the length of the supplied
+     * calendar in words rather than the number of dates it holds.
      *
      * @param calendar
      * @return the com.gds.com.gds.calendar instance.
      * @throws IllegalArgumentException if the com.gds.com.gds.calendar argument is null.
+     * @throws IllegalArgumentException if any of the supplied calendar's dates are outside of this calendar's range, in
+     *                                  which case no dates are added.
      */
     public LocalDateCalendar add(final LocalDateCalendar calendar) {
 
         notNull(calendar, "Mandatory argument 'calendar' is missing.");
-        calendar.days.forEach(this::add);
-        listenerRegistry.forEach(listener -> listener.event(
-                context(CalendarChangeEvent.CALENDAR_ADDED, "Calendar dates from " + calendar.getName() + " added to "
-                        + getName() + ".", calendar)));
+        if (calendar.days.count(days.getFirstDay(), days.getLastDay()) != calendar.days.cardinality())
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        if (listenerRegistry.wants(CalendarChangeEvent.DATES_ADDED)) {
+            final List<LocalDate> added = new ArrayList<>();
+            if (days.or(calendar.days, day -> added.add(LocalDate.ofEpochDay(day))) > 0) {
+                Collections.reverse(added);
+                listenerRegistry.fire(context(CalendarChangeEvent.DATES_ADDED,
+                        () -> "Collection of dates added to calendar.", this, added.toArray(new LocalDate[]{})));
+            }
+        } else {
+            days.or(calendar.days, day -> { });
+        }
+        if (listenerRegistry.wants(CalendarChangeEvent.CALENDAR_ADDED))
+            listenerRegistry.fire(context(CalendarChangeEvent.CALENDAR_ADDED, () -> "Calendar dates from "
+                    + calendar.getName() + " added to " + getName() + ".", calendar));
         return this;
     }
 
@@ -309,35 +738,78 @@ public class LocalDateCalendar {
 
         if (isOutsideOfCalendarRange(date))
             throw new IllegalArgumentException("Date supplied is outside of calendar range.");
-        if (days.indexOf(date) > -1)
-            return this;
-        int lastIndexExceedingDate = 0;
-        for (int index = 0; index < days.size(); index++)
-            if (days.get(index).isBefore(date))
-                lastIndexExceedingDate = index;
-        int offset = days.size() > 0 ? 1 : 0;
-        if (lastIndexExceedingDate > -1) {
-            days.add(lastIndexExceedingDate + offset, date);
-            listenerRegistry.forEach(listener -> listener.event(context(CalendarChangeEvent.DATE_ADDED,
-                    "New date added to calendar.", this, date)));
+        if (days.add(date.toEpochDay()) && listenerRegistry.wants(CalendarChangeEvent.DATE_ADDED))
+            listenerRegistry.fire(context(CalendarChangeEvent.DATE_ADDED, () -> "New date added to calendar.",
+                    this, date));
+        return this;
+    }
+
+    /**
+     * Add all of the supplied dates to the calendar. Dates that are already in the calendar are ignored. All registered
+     * listeners are notified of calendar updates as a result of this method execution, a single DATES_ADDED event
+     * carries the dates that were newly added, in the order supplied. No event is raised if no date was added.
+     *
+     * @param dates the dates to add to the calendar.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied collection, or any date in it, is null or if any date is
+     *                                  outside of the calendar range, in which case no dates are added.
+     */
+    public LocalDateCalendar addAll(final Collection<LocalDate> dates) {
+
+        notNull(dates, "Mandatory argument 'dates' is missing.");
+        for (final LocalDate date : dates) {
+            notNull(date, "Mandatory argument 'dates' contains a null date.");
+            if (isOutsideOfCalendarRange(date))
+                throw new IllegalArgumentException("Date supplied is outside of calendar range [" + date + "].");
         }
+        final boolean notify = listenerRegistry.wants(CalendarChangeEvent.DATES_ADDED);
+        final List<LocalDate> added = notify ? new ArrayList<>() : Collections.emptyList();
+        for (final LocalDate date : dates)
+            if (days.add(date.toEpochDay()) && notify)
+                added.add(date);
+        if (!added.isEmpty())
+            listenerRegistry.fire(context(CalendarChangeEvent.DATES_ADDED,
+                    () -> "Collection of dates added to calendar.", this, added.toArray(new LocalDate[]{})));
         return this;
     }
 
     /**
-     * Return all of the dates that correspond to the specified day-of-the week argument. The list returned may
-     * contain zero, one or more elements.
+     * Apply a batch of changes to the calendar as a single change, for example, a holiday update of many adds and
+     * removes. The mutator is given a private working copy of this calendar, with no listeners, and may apply any
+     * number of changes to it, queries on the working copy see the changes made so far. When the mutator completes
+     * the working copy's days become the days of this calendar in one step and registered listeners are notified by a
+     * single BATCH_APPLIED event carrying the net changes, latest first. Days added and then removed again within the
+     * batch are not reported. No event is raised if there is no net change.
+     * <p>
+     * If the mutator throws an exception this calendar is left unchanged, no event is raised and the exception is
+     * rethrown. The working copy must not be retained by the mutator.
      *
-     * @param dayOfWeek the lookup key.
-     * @return the com.gds.com.gds.calendar instance.
-     * @throws IllegalArgumentException if the dayOfWeek argument is null.
+     * @param mutator applies the changes to the working copy.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the mutator is null.
+     * @throws IllegalStateException    if the mutator changes the range of the working copy, in which case this
+     *                                  calendar is left unchanged.
      */
-    public List<LocalDate> getDatesForDaysOfWeek(final DayOfWeek dayOfWeek) {
+    public LocalDateCalendar batch(final Consumer<LocalDateCalendar> mutator) {
 
-        notNull(dayOfWeek, "Mandatory argument 'dayOfWeek' is missing.");
-        return days.stream()
-                .filter(date -> date.getDayOfWeek().equals(dayOfWeek))
-                .collect(Collectors.toList());
+        notNull(mutator, "Mandatory argument 'mutator' is missing.");
+        final LocalDateCalendar working = snapshot();
+        mutator.accept(working);
+        state(working.days.getFirstDay() == days.getFirstDay() && working.days.getLastDay() == days.getLastDay(),
+                "A batch cannot change the calendar range");
+        if (!listenerRegistry.wants(CalendarChangeEvent.BATCH_APPLIED)) {
+            days.assign(working.days);
+            return this;
+        }
+        final List<LocalDate> added = new ArrayList<>();
+        final List<LocalDate> removed = new ArrayList<>();
+        working.days.diff(days, day -> added.add(LocalDate.ofEpochDay(day)),
+                day -> removed.add(LocalDate.ofEpochDay(day)));
+        days.assign(working.days);
+        if (!added.isEmpty() || !removed.isEmpty())
+            listenerRegistry.fire(context(CalendarChangeEvent.BATCH_APPLIED, () -> "Batch applied to calendar, "
+                    + added.size() + " dates added and " + removed.size() + " dates removed.", this, added, removed));
+        return this;
     }
 
     /**
@@ -346,6 +818,7 @@ public class LocalDateCalendar {
      *
      * @return the end date for this com.gds.com.gds.calendar.
      */
+    @Override
     public LocalDate getEndDate() {
         return endDate;
     }
@@ -358,163 +831,85 @@ public class LocalDateCalendar {
      *
      * @return the start date for this com.gds.com.gds.calendar.
      */
+    @Override
     public LocalDate getStartDate() {
         return endDate.minusDays(calendarPeriod - 1);
     }
 
     /**
-     * Return a representation that this is the first day in the month. This query works on a com.gds.com.gds.calendar object that
-     * may have had days removed so the first day in the month may be specific to each com.gds.com.gds.calendar instance and to each
-     * month's days state.
-     *
-     * @param date the lookup key.
-     * @return true if the date supplied is the first date in the month, false otherwise.
-     * @throws IllegalArgumentException if the supplied date is null or outside the com.gds.com.gds.calendar range.
-     */
-    public final boolean isFirstDayInTheMonth(final LocalDate date) {
-
-        notNull(date, "Mandatory argument 'date' is missing.");
-        if (isOutsideOfCalendarRange(date))
-            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
-        return days.contains(date) && getDayBefore(date).get().getMonthValue() != date.getMonthValue();
-    }
-
-    /**
-     * A com.gds.com.gds.calendar can span multiple years and can contain the same month value across more than one year. For the year
-     * and month value supplied, return the first day in the com.gds.com.gds.calendar. If the year and month are not found then an
-     * empty Optional type will be returned.
-     *
-     * @param year  the year filter.
-     * @param month the month filter.
-     * @return an Optional date representing the first day of the located month or empty value.
-     * @throws IllegalArgumentException if the supplied year is null.
-     * @throws IllegalArgumentException if the supplied month is null.
-     */
-    public Optional<LocalDate> getFirstDayOfTheMonth(final Year year, final Month month) {
-
-        notNull(year, "Mandatory argument 'year' is missing.");
-        notNull(month, "Mandatory argument 'month' is missing.");
-
-        final List<LocalDate> subsetOfDays = getDaysInMonth(year, month);
-        if (subsetOfDays.isEmpty())
-            return Optional.empty();
-        return Optional.of(subsetOfDays.get(subsetOfDays.size() - 1));
-    }
-
-    /**
-     * Get all dates in the year and month specified. The list of dates may contain zero, one or many elements.
+     * Register an listener with this com.gds.com.gds.calendar for all event types.
      *
-     * @param year  the year filter.
-     * @param month the month filter.
-     * @return a list of dates that are managed by the com.gds.com.gds.calendar, filtered by year and month.
-     * @throws IllegalArgumentException if the supplied year is null.
-     * @throws IllegalArgumentException if the supplied month is null.
+     * @param listener an implementation of the listener interface.
+     * @return the com.gds.com.gds.calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
      */
-    public List<LocalDate> getDaysInMonth(final Year year, final Month month) {
-
-        notNull(year, "Mandatory argument 'year' is missing.");
-        notNull(month, "Mandatory argument 'month' is missing.");
-        return getDaysInYear(year).stream().filter(
-                date -> month.getValue() == date.getMonthValue()).collect(Collectors.toList());
+    public LocalDateCalendar register(final LocalDateCalendarListener listener) {
+        return register(listener, EnumSet.allOf(CalendarChangeEvent.class));
     }
 
     /**
-     * Get all dates in the month specified irrespective of the year. The list of dates may contain zero, one or
-     * many elements.
+     * Register a listener with this com.gds.com.gds.calendar for the supplied event types only. Event contexts, and
+     * their messages, are only built for event types that at least one listener is registered for.
      *
-     * @param month the month filter.
-     * @return a list of dates that are managed by the com.gds.com.gds.calendar, filtered by month.
-     * @throws IllegalArgumentException if the supplied month is null.
+     * @param listener an implementation of the listener interface.
+     * @param events   the event types the listener is notified of.
+     * @return the com.gds.com.gds.calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null or events is null or empty.
      */
-    public List<LocalDate> getDaysInMonth(final Month month) {
+    public LocalDateCalendar register(final LocalDateCalendarListener listener,
+                                      final EnumSet<CalendarChangeEvent> events) {
 
-        notNull(month, "Mandatory argument 'month' is missing.");
-        return getAllDates().stream().filter(
-                date -> month.getValue() == date.getMonthValue()).collect(Collectors.toList());
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        notEmpty(events, "Mandatory argument 'events' is missing or empty.");
+        listenerRegistry.register(listener, events, false);
+        return this;
     }
 
     /**
-     * Get all dates in the month specified. The list of dates may contain zero, one or many elements.
+     * Register a listener with this com.gds.com.gds.calendar for all event types, holding it weakly. The calendar
+     * does not keep the listener reachable, once the listener is garbage collected its registration is purged. The
+     * caller must hold a strong reference to the listener for as long as it should be notified, a lambda or method
+     * reference created just for the call may be collected at any time.
      *
-     * @param year the year filter.
-     * @return a list of dates that are managed by the com.gds.com.gds.calendar, filtered by year.
-     * @throws IllegalArgumentException if the supplied year is null.
+     * @param listener an implementation of the listener interface.
+     * @return the com.gds.com.gds.calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
      */
-    public List<LocalDate> getDaysInYear(final Year year) {
-
-        notNull(year, "Mandatory argument 'year' is missing.");
-        return getAllDates().stream().filter(date -> date.getYear() == year.getValue()).collect(Collectors.toList());
+    public LocalDateCalendar registerWeakly(final LocalDateCalendarListener listener) {
+        return registerWeakly(listener, EnumSet.allOf(CalendarChangeEvent.class));
     }
 
     /**
-     * A query method that allows the caller to determine if the date supplied is the 'dayOffset' day in the month of the
-     * month and year of the date supplied. For example: isDayOfTheMonth(LocalDate.of(2018,01,01), 1) will yield true if
-     * the com.gds.com.gds.calendar is filled with all dates for the year 2018. isDayOfTheMonth(LocalDate.of(2018,01,01), 2) will always
-     * yield false. isDayOfTheMonth(LocalDate.of(2018,01,05), 2) may yield true or false depending on com.gds.com.gds.calendar contents.
+     * Register a listener with this com.gds.com.gds.calendar for the supplied event types only, holding it weakly,
+     * see registerWeakly(LocalDateCalendarListener).
      *
-     * @param date      the value used as a lookup key in the set of managed dates.
-     * @param dayOffset the dayOffset in days used for comparison purposes.
-     * @return true if the date supplied is the correct dayOffset in the month, false otherwise.
-     * @throws IllegalArgumentException if the supplied date is null or outside the com.gds.com.gds.calendar range.
-     * @throws IllegalStateException    if the supplied dayOffset is not >= zero.
-     */
-    public boolean isDayOfTheMonth(final LocalDate date, final int dayOffset) {
-
-        notNull(date, "Mandatory argument 'date' is missing.");
-        if (isOutsideOfCalendarRange(date))
-            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
-        state(dayOffset >= 0, "Argument 'dayOffset' must be >= 0");
-        return days.contains(date)
-                && ((days.indexOf(date) + (dayOffset - 1)) <= days.size())
-                && (isFirstDayInTheMonth(days.get((days.indexOf(date) + (dayOffset - 1)))));
-    }
-
-    /**
-     * @param date
-     * @return
-     * @throws IllegalArgumentException if the supplied date is null or outside the com.gds.com.gds.calendar range.
-     */
-    public Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date) {
-
-        notNull(date, "Mandatory argument 'date' is missing.");
-        if (isOutsideOfCalendarRange(date))
-            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
-        return getLastDayOfMonthBefore(date, 1);
-    }
-
-    /**
-     * @param date
-     * @param monthSubtraction
-     * @return
-     * @throws IllegalArgumentException iif the supplied date is null or outside the com.gds.com.gds.calendar range.
-     * @throws IllegalStateException    if the supplied monthSubtraction is not >= zero.
+     * @param listener an implementation of the listener interface.
+     * @param events   the event types the listener is notified of.
+     * @return the com.gds.com.gds.calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null or events is null or empty.
      */
-    public Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date, final int monthSubtraction) {
+    public LocalDateCalendar registerWeakly(final LocalDateCalendarListener listener,
+                                            final EnumSet<CalendarChangeEvent> events) {
 
-        notNull(date, "Mandatory argument 'date' is missing.");
-        state(monthSubtraction >= 0, "Argument 'monthSubtraction' must be >= 0");
-        if (isOutsideOfCalendarRange(date))
-            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
-        final List<LocalDate> daysInMonthBefore = days.stream().filter(
-                day -> (day.getMonthValue() == date.minusMonths(monthSubtraction).getMonthValue()) &&
-                        (day.getYear() == date.minusMonths(monthSubtraction).getYear()))
-                .collect(Collectors.toList());
-        return Optional.ofNullable(!daysInMonthBefore.isEmpty() ? daysInMonthBefore.get(0) : null);
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        notEmpty(events, "Mandatory argument 'events' is missing or empty.");
+        listenerRegistry.register(listener, events, true);
+        return this;
     }
 
     /**
-     * Register an listener with this com.gds.com.gds.calendar, single event notification granularity only is possible, listeners
-     * either register for all or for no events.
+     * Remove every registration of the supplied listener from this com.gds.com.gds.calendar, listeners are compared
+     * by identity. Listeners may be registered and unregistered while an event is being dispatched, including by a
+     * listener, a listener unregistered during a dispatch may still be notified by that dispatch.
      *
-     * @param listener an implementation of the listener interface.
-     * @return the com.gds.com.gds.calendar instance.
+     * @param listener a listener registered with this com.gds.com.gds.calendar.
+     * @return true if the listener was registered, false otherwise.
      * @throws IllegalArgumentException if the supplied listener is null.
      */
-    public LocalDateCalendar register(final LocalDateCalendarListener listener) {
+    public boolean unregister(final LocalDateCalendarListener listener) {
 
         notNull(listener, "Mandatory argument 'listener' is missing.");
-        listenerRegistry.add(listener);
-        return this;
+        return listenerRegistry.unregister(listener);
     }
 
     /**
@@ -523,8 +918,9 @@ public class LocalDateCalendar {
      *
      * @return an unmodifiable list of dates that are managed by this com.gds.com.gds.calendar.
      */
+    @Override
     public List<LocalDate> getAllDates() {
-        return Collections.unmodifiableList(days);
+        return new DayList(days, days.getFirstDay(), days.getLastDay());
     }
 
     /**
@@ -532,6 +928,7 @@ public class LocalDateCalendar {
      *
      * @return a textual name of this com.gds.com.gds.calendar.
      */
+    @Override
     public String getName() {
         return calendarName;
     }
@@ -546,34 +943,39 @@ public class LocalDateCalendar {
     }
 
     /**
-     * Is the supplied date within the range of dates that this com.gds.com.gds.calendar handles.
-     * @param date the date with which to do the lookup.
-     * @return true if the date is outside the range handled by this com.gds.com.gds.calendar, false otherwise.
+     * Locate the included day with the supplied rank, ranks outside of the included days yield NO_DAY.
      */
-    public boolean isOutsideOfCalendarRange(final LocalDate date) {
-        return date.isAfter(endDate) || date.isBefore(getStartDate());
+    private long dayAtRank(final long rank) {
+        return rank >= 0 && rank < days.cardinality() ? days.select((int) rank) : NO_DAY;
     }
 
     /**
-     * A shortcut for creating an event context object.
+     * A shortcut for creating an event context object. The message is supplied lazily, it is only built if a listener
+     * asks for it.
      *
-     * @param message  an optional message, use null if not required, protected by Optional.
+     * @param message  a mandatory supplier of an optional message, supply null if not required, protected by Optional.
      * @param calendar a mandatory com.gds.com.gds.calendar object.
      * @param dates    an optional list of dates.
      * @return
      */
-    private ChangeEventContext context(final CalendarChangeEvent event, final String message,
-                                       final LocalDateCalendar calendar, final LocalDate... dates) {
+    static ChangeEventContext context(final CalendarChangeEvent event, final Supplier<String> message,
+                                      final LocalDateCalendarView calendar, final LocalDate... dates) {
 
+        notNull(message, "Mandatory argument 'message' is missing.");
         notNull(calendar, "Mandatory argument 'calendar' is missing.");
         return new ChangeEventContext() {
             @Override
             public Optional<String> getMessage() {
-                return Optional.ofNullable(message);
+                return Optional.ofNullable(message.get());
             }
 
             @Override
             public LocalDateCalendar getCalendar() {
+                return calendarOf(calendar);
+            }
+
+            @Override
+            public LocalDateCalendarView getCalendarView() {
                 return calendar;
             }
 
@@ -588,4 +990,118 @@ public class LocalDateCalendar {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * A shortcut for creating the event context of a change that both adds and removes dates, the context's dates
+     * are the added dates followed by the removed dates.
+     */
+    static ChangeEventContext context(final CalendarChangeEvent event, final Supplier<String> message,
+                                      final LocalDateCalendarView calendar, final List<LocalDate> added,
+                                      final List<LocalDate> removed) {
+
+        notNull(message, "Mandatory argument 'message' is missing.");
+        notNull(calendar, "Mandatory argument 'calendar' is missing.");
+        return new ChangeEventContext() {
+            @Override
+            public Optional<String> getMessage() {
+                return Optional.ofNullable(message.get());
+            }
+
+            @Override
+            public LocalDateCalendar getCalendar() {
+                return calendarOf(calendar);
+            }
+
+            @Override
+            public LocalDateCalendarView getCalendarView() {
+                return calendar;
+            }
+
+            @Override
+            public List<LocalDate> getDates() {
+
+                final List<LocalDate> dates = new ArrayList<>(added);
+                dates.addAll(removed);
+                return Collections.unmodifiableList(dates);
+            }
+
+            @Override
+            public List<LocalDate> getAddedDates() {
+                return Collections.unmodifiableList(added);
+            }
+
+            @Override
+            public List<LocalDate> getRemovedDates() {
+                return Collections.unmodifiableList(removed);
+            }
+
+            @Override
+            public CalendarChangeEvent getCalendarChangeEvent() {
+                return event;
+            }
+        };
+    }
+
+    /**
+     * A copy of the supplied event context that reports the supplied view as the calendar that changed, getCalendar()
+     * answers the supplied calendar, which is only built if a listener asks for it.
+     */
+    static ChangeEventContext context(final ChangeEventContext context, final LocalDateCalendarView calendar,
+                                      final Supplier<LocalDateCalendar> localDateCalendar) {
+
+        notNull(calendar, "Mandatory argument 'calendar' is missing.");
+        notNull(localDateCalendar, "Mandatory argument 'localDateCalendar' is missing.");
+        return new ChangeEventContext() {
+            @Override
+            public Optional<String> getMessage() {
+                return context.getMessage();
+            }
+
+            @Override
+            public LocalDateCalendar getCalendar() {
+                return localDateCalendar.get();
+            }
+
+            @Override
+            public LocalDateCalendarView getCalendarView() {
+                return calendar;
+            }
+
+            @Override
+            public List<LocalDate> getDates() {
+                return context.getDates();
+            }
+
+            @Override
+            public List<LocalDate> getAddedDates() {
+                return context.getAddedDates();
+            }
+
+            @Override
+            public List<LocalDate> getRemovedDates() {
+                return context.getRemovedDates();
+            }
+
+            @Override
+            public CalendarChangeEvent getCalendarChangeEvent() {
+                return context.getCalendarChangeEvent();
+            }
+        };
+    }
+
+    /**
+     * The LocalDateCalendar reported by an event context's getCalendar(), the calendar itself or, for a concurrent
+     * calendar, a copy of its current state.
+     *
+     * @throws IllegalStateException if the calendar has no LocalDateCalendar form, see LocalDateCalendarListener.
+     */
+    private static LocalDateCalendar calendarOf(final LocalDateCalendarView calendar) {
+
+        if (calendar instanceof LocalDateCalendar)
+            return (LocalDateCalendar) calendar;
+        if (calendar instanceof ConcurrentLocalDateCalendar)
+            return ((ConcurrentLocalDateCalendar) calendar).toLocalDateCalendar();
+        throw new IllegalStateException("Calendar " + calendar.getName()
+                + " is not a LocalDateCalendar, use getCalendarView().");
+    }
+}
@@ -1,12 +1,25 @@
 package com.gds.calendar;
 
+import java.util.List;
+
 /**
  * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
  * @since 21/08/2017
  *
  * Notification callback functional interface for com.gds.com.gds.calendar change event dispatch.
+ * <p>
+ * Listeners that may be registered with any kind of calendar should use the context's getCalendarView(), its
+ * getCalendar() throws for a calendar that has no LocalDateCalendar form, such as a RollingLocalDateCalendar.
  */
 @FunctionalInterface
 public interface LocalDateCalendarListener {
      void event(final ChangeEventContext context);
+
+    /**
+     * Notification of a run of consecutive events for the same calendar, as delivered by an AsyncEventDispatcher.
+     * The default notifies each event in turn, the list is only valid for the duration of the call.
+     */
+    default void events(final List<ChangeEventContext> contexts) {
+        contexts.forEach(this::event);
+    }
 }
\ No newline at end of file
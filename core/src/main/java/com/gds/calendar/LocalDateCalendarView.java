@@ -0,0 +1,716 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * The read-only query API of a calendar, a set of included days between a start date and an end date.
+ * <p>
+ * Implementations supply the calendar range and a small set of epoch-day primitives (isIncluded, nextIncluded,
+ * previousIncluded, plusIncluded and countIncludedBetween), every LocalDate oriented query is provided here in terms
+ * of those primitives. LocalDateCalendar answers the primitives from its day bitmap, other implementations such as
+ * CompositeCalendar answer them without materializing any dates.
+ * <p>
+ * Lists of dates returned by this API are ordered latest date first.
+ */
+public interface LocalDateCalendarView {
+
+    /**
+     * Returned by the epoch-day query methods when no day satisfies the query.
+     */
+    long NO_DAY = Long.MIN_VALUE;
+
+    /**
+     * The friendly name of this calendar instance.
+     *
+     * @return a textual name of this calendar.
+     */
+    String getName();
+
+    /**
+     * Return the first possible date in this calendar, irrespective of the presence of that date in the calendar.
+     *
+     * @return the start date for this calendar.
+     */
+    LocalDate getStartDate();
+
+    /**
+     * Return the last possible date in this calendar, irrespective of the presence of that date in the calendar.
+     *
+     * @return the end date for this calendar.
+     */
+    LocalDate getEndDate();
+
+    /**
+     * Epoch-day equivalent of getDay(date).isPresent(), this method does not allocate.
+     *
+     * @param epochDay the lookup key as an epoch-day value, see LocalDate.toEpochDay().
+     * @return true if the day is included in the calendar, false otherwise.
+     */
+    boolean isIncluded(long epochDay);
+
+    /**
+     * Epoch-day equivalent of nextIncludedDay(date), this method does not allocate.
+     *
+     * @param epochDay the search key as an epoch-day value.
+     * @return the epoch-day value of the first included day strictly after the search key or NO_DAY.
+     */
+    long nextIncluded(long epochDay);
+
+    /**
+     * Epoch-day equivalent of previousIncludedDay(date), this method does not allocate.
+     *
+     * @param epochDay the search key as an epoch-day value.
+     * @return the epoch-day value of the last included day strictly before the search key or NO_DAY.
+     */
+    long previousIncluded(long epochDay);
+
+    /**
+     * Epoch-day equivalent of plusIncludedDays(date, includedDays), this method does not allocate.
+     *
+     * @param epochDay     the epoch-day value to move from.
+     * @param includedDays the number of included days to move by, negative values move backwards.
+     * @return the epoch-day value of the located day or NO_DAY if it would fall outside of the calendar range.
+     */
+    long plusIncluded(long epochDay, int includedDays);
+
+    /**
+     * Epoch-day equivalent of countIncludedDaysBetween(from, to), this method does not allocate.
+     *
+     * @param from the start of the period as an epoch-day value, inclusive.
+     * @param to   the end of the period as an epoch-day value, exclusive.
+     * @return the number of included days in the period, negative if 'to' is before 'from'.
+     */
+    int countIncludedBetween(long from, long to);
+
+    /**
+     * Write the epoch-day values of the days included in the calendar from 'from', inclusive, to 'to', exclusive,
+     * into the supplied sink in ascending order. If the sink is too small to hold every day the method stops when
+     * the sink is full, the caller can continue from the day after the last one written. This method does not
+     * allocate.
+     *
+     * @param from the start of the range as an epoch-day value, inclusive.
+     * @param to   the end of the range as an epoch-day value, exclusive.
+     * @param sink the array receiving the epoch-day values, starting at index zero.
+     * @return the number of epoch-day values written to the sink.
+     * @throws IllegalArgumentException if the sink is null.
+     */
+    default int includedDaysInRange(final long from, final long to, final int[] sink) {
+
+        notNull(sink, "Mandatory argument 'sink' is missing.");
+        int count = 0;
+        for (long day = isIncluded(from) ? from : nextIncluded(from); day != NO_DAY && day < to && count < sink.length;
+             day = nextIncluded(day))
+            sink[count++] = (int) day;
+        return count;
+    }
+
+    /**
+     * Test each of the supplied days for inclusion in the calendar, result[i] is set to isIncluded(epochDays[i]).
+     * This is the batch form of isIncluded(long) for workloads that test many days at once, it does not allocate.
+     *
+     * @param epochDays the days to test as epoch-day values.
+     * @param result    receives the result for each day, it must be at least as long as epochDays.
+     * @return the number of days that are included.
+     * @throws IllegalArgumentException if either argument is null.
+     * @throws IllegalStateException    if result is shorter than epochDays.
+     */
+    default int containsAll(final long[] epochDays, final boolean[] result) {
+
+        notNull(epochDays, "Mandatory argument 'epochDays' is missing.");
+        return containsAll(epochDays, 0, epochDays.length, result);
+    }
+
+    /**
+     * Test the days in epochDays from index 'from', inclusive, to index 'to', exclusive, for inclusion in the
+     * calendar, result[i] is set to isIncluded(epochDays[i]) for each index in the range. See
+     * containsAll(long[], boolean[]).
+     *
+     * @param epochDays the days to test as epoch-day values.
+     * @param from      the first index to test, inclusive.
+     * @param to        the last index to test, exclusive.
+     * @param result    receives the result for each day, at the index of the day.
+     * @return the number of days in the range that are included.
+     * @throws IllegalArgumentException if either array is null.
+     * @throws IllegalStateException    if the index range is not within both arrays.
+     */
+    default int containsAll(final long[] epochDays, final int from, final int to, final boolean[] result) {
+
+        notNull(epochDays, "Mandatory argument 'epochDays' is missing.");
+        notNull(result, "Mandatory argument 'result' is missing.");
+        state(from >= 0 && from <= to && to <= epochDays.length && to <= result.length,
+                "Index range must be within 'epochDays' and 'result'");
+        int count = 0;
+        for (int index = from; index < to; index++) {
+            final boolean included = isIncluded(epochDays[index]);
+            result[index] = included;
+            if (included)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Test each of the supplied days for inclusion in the calendar, bit i of the result is set to
+     * isIncluded(epochDays[i]). See containsAll(long[], boolean[]).
+     *
+     * @param epochDays the days to test as epoch-day values.
+     * @param result    receives the result for each day, bits beyond the length of epochDays are left unchanged.
+     * @return the number of days that are included.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    default int containsAll(final long[] epochDays, final BitSet result) {
+
+        notNull(epochDays, "Mandatory argument 'epochDays' is missing.");
+        notNull(result, "Mandatory argument 'result' is missing.");
+        int count = 0;
+        for (int index = 0; index < epochDays.length; index++) {
+            final boolean included = isIncluded(epochDays[index]);
+            result.set(index, included);
+            if (included)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Is the supplied date within the range of dates that this com.gds.com.gds.calendar handles.
+     * @param date the date with which to do the lookup.
+     * @return true if the date is outside the range handled by this com.gds.com.gds.calendar, false otherwise.
+     */
+    default boolean isOutsideOfCalendarRange(final LocalDate date) {
+        return date.isAfter(getEndDate()) || date.isBefore(getStartDate());
+    }
+
+    /**
+     * Locate the supplied date in the com.gds.com.gds.calendar.
+     *
+     * @param date used as a search key.
+     * @return the date located in this com.gds.com.gds.calendar if it exists, an optional null otherwise.
+     * @throws IllegalArgumentException if the date argument is null.
+     */
+    default Optional<LocalDate> getDay(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        return isIncluded(date.toEpochDay()) ? Optional.of(date) : Optional.empty();
+    }
+
+    /**
+     * Get the day in the com.gds.com.gds.calendar before the day supplied. Note that the day before may not be numerically
+     * equivalent minus 1 as that date may not be present in the com.gds.com.gds.calendar.
+     *
+     * @param date the search key used for locating the day before.
+     * @return an optional date representing the day before the date supplied, if no day before is found then an
+     * optional null will be returned.
+     * @throws IllegalArgumentException if the date supplied is null or is located is outside of the com.gds.com.gds.calendar
+     *                                  dates range, according to com.gds.com.gds.calendar start and com.gds.com.gds.calendar end dates.
+     */
+    default Optional<LocalDate> getDayBefore(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        if (date.isEqual(getStartDate()))
+            throw new IllegalArgumentException("Date before will be outside of calendar range.");
+        if (nextIncluded(getStartDate().toEpochDay() - 1) == NO_DAY)
+            throw new IllegalArgumentException("Cannot use getDayBefore(...) on an empty com.gds.com.gdscalendar.");
+        return EpochDays.toDate(previousIncluded(date.toEpochDay()));
+    }
+
+    /**
+     * Get the first day included in the calendar that is strictly after the supplied date. The supplied date does not
+     * have to be included in, or within the range of, the calendar.
+     *
+     * @param date the search key.
+     * @return the next included date or an empty Optional if there are no included dates after the supplied date.
+     * @throws IllegalArgumentException if the date argument is null.
+     */
+    default Optional<LocalDate> nextIncludedDay(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        return EpochDays.toDate(nextIncluded(date.toEpochDay()));
+    }
+
+    /**
+     * Get the last day included in the calendar that is strictly before the supplied date. Unlike getDayBefore(...),
+     * the supplied date does not have to be within the range of the calendar.
+     *
+     * @param date the search key.
+     * @return the previous included date or an empty Optional if there are no included dates before the supplied date.
+     * @throws IllegalArgumentException if the date argument is null.
+     */
+    default Optional<LocalDate> previousIncludedDay(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        return EpochDays.toDate(previousIncluded(date.toEpochDay()));
+    }
+
+    /**
+     * Move forward from the supplied date by a number of included days, for example, on a business day calendar
+     * plusIncludedDays(tradeDate, 2) yields the T+2 date. The supplied date does not have to be included in the
+     * calendar, the result is the included day that has exactly 'includedDays' included days after the supplied date
+     * and up to and including itself. A negative number of days moves backwards, see minusIncludedDays(...), and zero
+     * yields the supplied date only if it is included.
+     *
+     * @param date         the date to move forward from.
+     * @param includedDays the number of included days to move forward by.
+     * @return the located date or an empty Optional if the result would fall outside of the calendar range.
+     * @throws IllegalArgumentException if the date argument is null.
+     */
+    default Optional<LocalDate> plusIncludedDays(final LocalDate date, final int includedDays) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        return includedDays == 0 ? getDay(date) : EpochDays.toDate(plusIncluded(date.toEpochDay(), includedDays));
+    }
+
+    /**
+     * Move backward from the supplied date by a number of included days. The supplied date does not have to be
+     * included in the calendar, the result is the included day that has exactly 'includedDays' included days from
+     * and including itself up to the supplied date. A negative number of days moves forwards and zero yields the
+     * supplied date only if it is included.
+     *
+     * @param date         the date to move backward from.
+     * @param includedDays the number of included days to move backward by.
+     * @return the located date or an empty Optional if the result would fall outside of the calendar range.
+     * @throws IllegalArgumentException if the date argument is null.
+     */
+    default Optional<LocalDate> minusIncludedDays(final LocalDate date, final int includedDays) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (includedDays == Integer.MIN_VALUE)
+            return Optional.empty();
+        return plusIncludedDays(date, -includedDays);
+    }
+
+    /**
+     * Count the days included in the calendar from the 'from' date, inclusive, to the 'to' date, exclusive. If 'to' is
+     * before 'from' the count is negative. Neither date has to be included in, or within the range of, the calendar.
+     *
+     * @param from the start of the period, inclusive.
+     * @param to   the end of the period, exclusive.
+     * @return the number of included days in the period.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    default int countIncludedDaysBetween(final LocalDate from, final LocalDate to) {
+
+        notNull(from, "Mandatory argument 'from' is missing.");
+        notNull(to, "Mandatory argument 'to' is missing.");
+        return countIncludedBetween(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * Adjust the supplied date onto a day included in the calendar using the supplied roll convention.
+     *
+     * @param date       the date to adjust.
+     * @param convention the roll convention to apply.
+     * @return the adjusted date or an empty Optional if the convention cannot locate an included day.
+     * @throws IllegalArgumentException if either argument is null or the date is outside of the calendar range.
+     */
+    default Optional<LocalDate> adjust(final LocalDate date, final RollConvention convention) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        notNull(convention, "Mandatory argument 'convention' is missing.");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        final long adjusted = convention.adjust(this, date);
+        return adjusted == date.toEpochDay() ? Optional.of(date) : EpochDays.toDate(adjusted);
+    }
+
+    /**
+     * Adjust a batch of dates onto days included in the calendar using the supplied roll convention, the adjusted
+     * value of in[n] is written to out[n]. Dates that need no adjustment are copied across rather than re-created, so
+     * the same array may be supplied for both 'in' and 'out'.
+     *
+     * @param in         the dates to adjust.
+     * @param convention the roll convention to apply.
+     * @param out        the array receiving the adjusted dates, it must be at least as long as 'in'.
+     * @throws IllegalArgumentException if any argument or input date is null, if any input date is outside of the
+     *                                  calendar range or if the convention cannot locate an included day for any
+     *                                  input date.
+     * @throws IllegalStateException    if 'out' is shorter than 'in'.
+     */
+    default void adjustAll(final LocalDate[] in, final RollConvention convention, final LocalDate[] out) {
+
+        notNull(in, "Mandatory argument 'in' is missing.");
+        notNull(convention, "Mandatory argument 'convention' is missing.");
+        notNull(out, "Mandatory argument 'out' is missing.");
+        state(out.length >= in.length, "Argument 'out' must be at least as long as argument 'in'");
+        for (int index = 0; index < in.length; index++) {
+            final LocalDate date = in[index];
+            notNull(date, "Mandatory argument 'in' contains a null date.");
+            if (isOutsideOfCalendarRange(date))
+                throw new IllegalArgumentException("Date supplied is outside of calendar range [" + date + "].");
+            final long adjusted = convention.adjust(this, date);
+            if (adjusted == NO_DAY)
+                throw new IllegalArgumentException("Date supplied cannot be adjusted [" + date + "].");
+            out[index] = adjusted == date.toEpochDay() ? date : LocalDate.ofEpochDay(adjusted);
+        }
+    }
+
+    /**
+     * Compute the fraction of a year from the start date, inclusive, to the end date, exclusive, using the supplied
+     * day count convention. For DayCount.BUSINESS_252 the included days of this calendar are counted.
+     *
+     * @param start    the start of the period.
+     * @param end      the end of the period.
+     * @param dayCount the day count convention to apply.
+     * @return the fraction of a year, negative if the end date is before the start date.
+     * @throws IllegalArgumentException if any argument is null or either date is outside of the calendar range.
+     */
+    default double yearFraction(final LocalDate start, final LocalDate end, final DayCount dayCount) {
+
+        notNull(start, "Mandatory argument 'start' is missing.");
+        notNull(end, "Mandatory argument 'end' is missing.");
+        notNull(dayCount, "Mandatory argument 'dayCount' is missing.");
+        if (isOutsideOfCalendarRange(start) || isOutsideOfCalendarRange(end))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        return dayCount.yearFraction(this, start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * Compute the year fractions of each period of a schedule, for example, the accrual periods of a cash-flow
+     * schedule, the fraction of the period from schedule[n] to schedule[n + 1] is written to out[n]. Each date is
+     * converted once and shared by the two periods it bounds.
+     *
+     * @param schedule the dates bounding the periods, in order.
+     * @param dayCount the day count convention to apply.
+     * @param out      the array receiving the year fractions, it must be at least one shorter than 'schedule'.
+     * @throws IllegalArgumentException if any argument or schedule date is null or if any schedule date is outside
+     *                                  of the calendar range.
+     * @throws IllegalStateException    if 'out' is shorter than the number of periods.
+     */
+    default void yearFractions(final LocalDate[] schedule, final DayCount dayCount, final double[] out) {
+
+        notNull(schedule, "Mandatory argument 'schedule' is missing.");
+        notNull(dayCount, "Mandatory argument 'dayCount' is missing.");
+        notNull(out, "Mandatory argument 'out' is missing.");
+        state(out.length >= schedule.length - 1, "Argument 'out' must be at least one shorter than 'schedule'");
+        long start = 0;
+        for (int index = 0; index < schedule.length; index++) {
+            final LocalDate date = schedule[index];
+            notNull(date, "Mandatory argument 'schedule' contains a null date.");
+            if (isOutsideOfCalendarRange(date))
+                throw new IllegalArgumentException("Date supplied is outside of calendar range [" + date + "].");
+            final long end = date.toEpochDay();
+            if (index > 0)
+                out[index - 1] = dayCount.yearFraction(this, start, end);
+            start = end;
+        }
+    }
+
+    /**
+     * Return all of the dates that correspond to the specified day-of-the week argument. The list returned may
+     * contain zero, one or more elements.
+     *
+     * @param dayOfWeek the lookup key.
+     * @return the com.gds.com.gds.calendar instance.
+     * @throws IllegalArgumentException if the dayOfWeek argument is null.
+     */
+    default List<LocalDate> getDatesForDaysOfWeek(final DayOfWeek dayOfWeek) {
+
+        notNull(dayOfWeek, "Mandatory argument 'dayOfWeek' is missing.");
+        final List<LocalDate> dates = new ArrayList<>();
+        for (long day = previousIncluded(getEndDate().toEpochDay() + 1); day != NO_DAY; day = previousIncluded(day))
+            if (EpochDays.dayOfWeek(day) == dayOfWeek)
+                dates.add(LocalDate.ofEpochDay(day));
+        return dates;
+    }
+
+    /**
+     * Return a representation that this is the first day in the month. This query works on a com.gds.com.gds.calendar object that
+     * may have had days removed so the first day in the month may be specific to each com.gds.com.gds.calendar instance and to each
+     * month's days state.
+     *
+     * @param date the lookup key.
+     * @return true if the date supplied is the first date in the month, false otherwise.
+     * @throws IllegalArgumentException if the supplied date is null or outside the com.gds.com.gds.calendar range.
+     */
+    default boolean isFirstDayInTheMonth(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        if (!isIncluded(date.toEpochDay()))
+            return false;
+        final long dayBefore = previousIncluded(date.toEpochDay());
+        return dayBefore == NO_DAY || dayBefore < EpochDays.firstDayOfMonth(date);
+    }
+
+    /**
+     * A com.gds.com.gds.calendar can span multiple years and can contain the same month value across more than one year. For the year
+     * and month value supplied, return the first day in the com.gds.com.gds.calendar. If the year and month are not found then an
+     * empty Optional type will be returned.
+     *
+     * @param year  the year filter.
+     * @param month the month filter.
+     * @return an Optional date representing the first day of the located month or empty value.
+     * @throws IllegalArgumentException if the supplied year is null.
+     * @throws IllegalArgumentException if the supplied month is null.
+     */
+    default Optional<LocalDate> getFirstDayOfTheMonth(final Year year, final Month month) {
+
+        notNull(year, "Mandatory argument 'year' is missing.");
+        notNull(month, "Mandatory argument 'month' is missing.");
+
+        final List<LocalDate> subsetOfDays = getDaysInMonth(year, month);
+        if (subsetOfDays.isEmpty())
+            return Optional.empty();
+        return Optional.of(subsetOfDays.get(subsetOfDays.size() - 1));
+    }
+
+    /**
+     * Get all dates in the year and month specified. The list of dates may contain zero, one or many elements.
+     *
+     * @param year  the year filter.
+     * @param month the month filter.
+     * @return a list of dates that are managed by the com.gds.com.gds.calendar, filtered by year and month.
+     * @throws IllegalArgumentException if the supplied year is null.
+     * @throws IllegalArgumentException if the supplied month is null.
+     */
+    default List<LocalDate> getDaysInMonth(final Year year, final Month month) {
+
+        notNull(year, "Mandatory argument 'year' is missing.");
+        notNull(month, "Mandatory argument 'month' is missing.");
+        final LocalDate firstDayOfMonth = year.atMonth(month).atDay(1);
+        return getDaysBetween(firstDayOfMonth, firstDayOfMonth.plusMonths(1).minusDays(1));
+    }
+
+    /**
+     * Get all dates in the month specified irrespective of the year. The list of dates may contain zero, one or
+     * many elements.
+     *
+     * @param month the month filter.
+     * @return a list of dates that are managed by the com.gds.com.gds.calendar, filtered by month.
+     * @throws IllegalArgumentException if the supplied month is null.
+     */
+    default List<LocalDate> getDaysInMonth(final Month month) {
+
+        notNull(month, "Mandatory argument 'month' is missing.");
+        final List<LocalDate> dates = new ArrayList<>();
+        for (int year = getEndDate().getYear(); year >= getStartDate().getYear(); year--)
+            dates.addAll(getDaysInMonth(Year.of(year), month));
+        return dates;
+    }
+
+    /**
+     * Get all dates in the month specified. The list of dates may contain zero, one or many elements.
+     *
+     * @param year the year filter.
+     * @return a list of dates that are managed by the com.gds.com.gds.calendar, filtered by year.
+     * @throws IllegalArgumentException if the supplied year is null.
+     */
+    default List<LocalDate> getDaysInYear(final Year year) {
+
+        notNull(year, "Mandatory argument 'year' is missing.");
+        return getDaysBetween(year.atDay(1), year.atDay(year.length()));
+    }
+
+    /**
+     * Get all dates included in the calendar between the two supplied dates, inclusive. The list of dates may contain
+     * zero, one or many elements.
+     *
+     * @param from the earliest date of interest.
+     * @param to   the latest date of interest.
+     * @return a list of dates that are managed by the calendar, latest date first.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    default List<LocalDate> getDaysBetween(final LocalDate from, final LocalDate to) {
+
+        notNull(from, "Mandatory argument 'from' is missing.");
+        notNull(to, "Mandatory argument 'to' is missing.");
+        final List<LocalDate> dates = new ArrayList<>();
+        final long firstDay = from.toEpochDay();
+        for (long day = previousIncluded(to.toEpochDay() + 1); day != NO_DAY && day >= firstDay;
+             day = previousIncluded(day))
+            dates.add(LocalDate.ofEpochDay(day));
+        return dates;
+    }
+
+    /**
+     * A query method that allows the caller to determine if the date supplied is the 'dayOffset' day in the month of the
+     * month and year of the date supplied. For example: isDayOfTheMonth(LocalDate.of(2018,01,01), 1) will yield true if
+     * the com.gds.com.gds.calendar is filled with all dates for the year 2018. isDayOfTheMonth(LocalDate.of(2018,01,01), 2) will always
+     * yield false. isDayOfTheMonth(LocalDate.of(2018,01,05), 2) may yield true or false depending on com.gds.com.gds.calendar contents.
+     *
+     * @param date      the value used as a lookup key in the set of managed dates.
+     * @param dayOffset the dayOffset in days used for comparison purposes.
+     * @return true if the date supplied is the correct dayOffset in the month, false otherwise.
+     * @throws IllegalArgumentException if the supplied date is null or outside the com.gds.com.gds.calendar range.
+     * @throws IllegalStateException    if the supplied dayOffset is not >= zero.
+     */
+    default boolean isDayOfTheMonth(final LocalDate date, final int dayOffset) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        state(dayOffset >= 0, "Argument 'dayOffset' must be >= 0");
+        if (!isIncluded(date.toEpochDay()))
+            return false;
+        final long day = dayOffset == 1 ? date.toEpochDay() : plusIncluded(date.toEpochDay(), 1 - dayOffset);
+        return day != NO_DAY && isFirstDayInTheMonth(LocalDate.ofEpochDay(day));
+    }
+
+    /**
+     * @param date
+     * @return
+     * @throws IllegalArgumentException if the supplied date is null or outside the com.gds.com.gds.calendar range.
+     */
+    default Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        return getLastDayOfMonthBefore(date, 1);
+    }
+
+    /**
+     * @param date
+     * @param monthSubtraction
+     * @return
+     * @throws IllegalArgumentException iif the supplied date is null or outside the com.gds.com.gds.calendar range.
+     * @throws IllegalStateException    if the supplied monthSubtraction is not >= zero.
+     */
+    default Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date, final int monthSubtraction) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        state(monthSubtraction >= 0, "Argument 'monthSubtraction' must be >= 0");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        final LocalDate monthBefore = date.minusMonths(monthSubtraction);
+        final long lastDay = previousIncluded(EpochDays.lastDayOfMonth(monthBefore) + 1);
+        return lastDay >= EpochDays.firstDayOfMonth(monthBefore) ? EpochDays.toDate(lastDay) : Optional.empty();
+    }
+
+    /**
+     * Return all dates included in this calendar.
+     *
+     * @return an unmodifiable list of dates that are managed by this calendar, latest date first.
+     */
+    default List<LocalDate> getAllDates() {
+        return Collections.unmodifiableList(getDaysBetween(getStartDate(), getEndDate()));
+    }
+
+    /**
+     * Perform the supplied action for each included day from 'from', inclusive, to 'to', exclusive, in ascending
+     * order. Days are passed as int epoch-day values, as by includedDaysInRange(...), and no objects are allocated
+     * per day.
+     *
+     * @param from   the start of the range as an epoch-day value, inclusive.
+     * @param to     the end of the range as an epoch-day value, exclusive.
+     * @param action the action receiving each included day.
+     * @throws IllegalArgumentException if the action is null.
+     */
+    default void forEachIncluded(final long from, final long to, final IntConsumer action) {
+
+        notNull(action, "Mandatory argument 'action' is missing.");
+        for (long day = isIncluded(from) ? from : nextIncluded(from); day != NO_DAY && day < to;
+             day = nextIncluded(day))
+            action.accept((int) day);
+    }
+
+    /**
+     * Perform the supplied action for each date included in the calendar between the two supplied dates, inclusive,
+     * in ascending order. No list of dates is built.
+     *
+     * @param from   the earliest date of interest.
+     * @param to     the latest date of interest.
+     * @param action the action receiving each included date.
+     * @throws IllegalArgumentException if any argument is null.
+     */
+    default void forEachIncluded(final LocalDate from, final LocalDate to, final Consumer<LocalDate> action) {
+
+        notNull(from, "Mandatory argument 'from' is missing.");
+        notNull(to, "Mandatory argument 'to' is missing.");
+        notNull(action, "Mandatory argument 'action' is missing.");
+        forEachIncluded(from.toEpochDay(), to.toEpochDay() + 1, day -> action.accept(LocalDate.ofEpochDay(day)));
+    }
+
+    /**
+     * A spliterator over the dates included in the calendar between the two supplied dates, inclusive, in ascending
+     * order. The spliterator is sized and sorted, the calendar must not be modified while it is in use.
+     *
+     * @param from the earliest date of interest.
+     * @param to   the latest date of interest.
+     * @return a spliterator over the included dates.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    default Spliterator<LocalDate> spliterator(final LocalDate from, final LocalDate to) {
+
+        notNull(from, "Mandatory argument 'from' is missing.");
+        notNull(to, "Mandatory argument 'to' is missing.");
+        final long firstDay = from.toEpochDay();
+        final long lastDay = to.toEpochDay();
+        final Iterator<LocalDate> dates = new Iterator<LocalDate>() {
+            private long next = isIncluded(firstDay) ? firstDay : nextIncluded(firstDay);
+
+            @Override
+            public boolean hasNext() {
+                return next != NO_DAY && next <= lastDay;
+            }
+
+            @Override
+            public LocalDate next() {
+
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                final LocalDate date = LocalDate.ofEpochDay(next);
+                next = nextIncluded(next);
+                return date;
+            }
+        };
+        return Spliterators.spliterator(dates, lastDay < firstDay ? 0 : countIncludedBetween(firstDay, lastDay + 1),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+    }
+
+    /**
+     * A spliterator over every date included in the calendar, see spliterator(LocalDate, LocalDate).
+     *
+     * @return a spliterator over the included dates.
+     */
+    default Spliterator<LocalDate> spliterator() {
+        return spliterator(getStartDate(), getEndDate());
+    }
+
+    /**
+     * A stream of the dates included in the calendar between the two supplied dates, inclusive, in ascending order.
+     * The calendar must not be modified while the stream is in use.
+     *
+     * @param from the earliest date of interest.
+     * @param to   the latest date of interest.
+     * @return a sequential stream of the included dates, which may be made parallel.
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    default Stream<LocalDate> stream(final LocalDate from, final LocalDate to) {
+        return StreamSupport.stream(spliterator(from, to), false);
+    }
+
+    /**
+     * A stream of every date included in the calendar, see stream(LocalDate, LocalDate).
+     *
+     * @return a sequential stream of the included dates, which may be made parallel.
+     */
+    default Stream<LocalDate> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
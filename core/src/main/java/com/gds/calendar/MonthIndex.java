@@ -0,0 +1,80 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Month boundary index for a calendar range. The epoch-day value of the first day of every month that the range
+ * touches is computed once, so locating the bounds of a (year, month) or of a year is constant time and does not
+ * create any LocalDate objects. Bounds are clamped to the calendar range, a month that is outside of the range has
+ * an empty range, i.e. a last day that is before its first day.
+ * <p>
+ * Months are addressed by their proleptic month value, year * 12 + (month - 1), as used by java.time.
+ */
+final class MonthIndex {
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private final long firstMonth;
+    private final long[] monthStarts;
+
+    /**
+     * Create an index over the range between the two supplied epoch-day values, inclusive.
+     */
+    MonthIndex(final long firstDay, final long lastDay) {
+
+        LocalDate month = LocalDate.ofEpochDay(firstDay).withDayOfMonth(1);
+        final LocalDate last = LocalDate.ofEpochDay(lastDay);
+        this.firstMonth = prolepticMonth(month);
+        this.monthStarts = new long[(int) (prolepticMonth(last) - firstMonth) + 2];
+        monthStarts[0] = firstDay;
+        for (int index = 1; index < monthStarts.length - 1; index++) {
+            month = month.plusMonths(1);
+            monthStarts[index] = month.toEpochDay();
+        }
+        monthStarts[monthStarts.length - 1] = lastDay + 1;
+    }
+
+    static long prolepticMonth(final Year year, final Month month) {
+        return year.getValue() * (long) MONTHS_PER_YEAR + month.ordinal();
+    }
+
+    static long prolepticMonth(final LocalDate date) {
+        return date.getYear() * (long) MONTHS_PER_YEAR + date.getMonthValue() - 1;
+    }
+
+    /**
+     * The epoch-day value of the first day in range of the supplied month.
+     */
+    long firstDay(final long prolepticMonth) {
+
+        final long index = prolepticMonth - firstMonth;
+        if (index <= 0)
+            return monthStarts[0];
+        return index < monthStarts.length ? monthStarts[(int) index] : monthStarts[monthStarts.length - 1];
+    }
+
+    /**
+     * The epoch-day value of the last day in range of the supplied month.
+     */
+    long lastDay(final long prolepticMonth) {
+        return prolepticMonth < firstMonth ? monthStarts[0] - 1 : firstDay(prolepticMonth + 1) - 1;
+    }
+
+    /**
+     * The epoch-day value of the first day in range of the supplied year.
+     */
+    long firstDayOfYear(final Year year) {
+        return firstDay(year.getValue() * (long) MONTHS_PER_YEAR);
+    }
+
+    /**
+     * The epoch-day value of the last day in range of the supplied year.
+     */
+    long lastDayOfYear(final Year year) {
+        return lastDay(year.getValue() * (long) MONTHS_PER_YEAR + MONTHS_PER_YEAR - 1);
+    }
+}
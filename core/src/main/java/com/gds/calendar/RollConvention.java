@@ -0,0 +1,104 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+
+import static com.gds.calendar.LocalDateCalendarView.NO_DAY;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Date roll conventions used to adjust a date onto a day that is included in a calendar, for example, to
+ * move a cash-flow date that falls on a holiday onto a business day. Dates that are already included in the calendar
+ * are left unchanged by every convention other than END_OF_MONTH.
+ */
+public enum RollConvention {
+
+    /**
+     * The first included day on or after the date.
+     */
+    FOLLOWING {
+        @Override
+        long adjust(final LocalDateCalendarView calendar, final long day, final long firstDayOfMonth,
+                    final long lastDayOfMonth) {
+            return following(calendar, day);
+        }
+    },
+
+    /**
+     * The first included day on or after the date unless that day falls in the next month, in which case the last
+     * included day before the date.
+     */
+    MODIFIED_FOLLOWING {
+        @Override
+        long adjust(final LocalDateCalendarView calendar, final long day, final long firstDayOfMonth,
+                    final long lastDayOfMonth) {
+            final long following = following(calendar, day);
+            return following != NO_DAY && following <= lastDayOfMonth ? following : preceding(calendar, day);
+        }
+    },
+
+    /**
+     * The last included day on or before the date.
+     */
+    PRECEDING {
+        @Override
+        long adjust(final LocalDateCalendarView calendar, final long day, final long firstDayOfMonth,
+                    final long lastDayOfMonth) {
+            return preceding(calendar, day);
+        }
+    },
+
+    /**
+     * The last included day on or before the date unless that day falls in the previous month, in which case the
+     * first included day after the date.
+     */
+    MODIFIED_PRECEDING {
+        @Override
+        long adjust(final LocalDateCalendarView calendar, final long day, final long firstDayOfMonth,
+                    final long lastDayOfMonth) {
+            final long preceding = preceding(calendar, day);
+            return preceding != NO_DAY && preceding >= firstDayOfMonth ? preceding : following(calendar, day);
+        }
+    },
+
+    /**
+     * The last included day in the month of the date.
+     */
+    END_OF_MONTH {
+        @Override
+        long adjust(final LocalDateCalendarView calendar, final long day, final long firstDayOfMonth,
+                    final long lastDayOfMonth) {
+            final long lastIncludedDay = preceding(calendar, lastDayOfMonth);
+            return lastIncludedDay != NO_DAY && lastIncludedDay >= firstDayOfMonth ? lastIncludedDay : NO_DAY;
+        }
+    };
+
+    /**
+     * Apply the convention to a date.
+     *
+     * @return the adjusted epoch-day value or LocalDateCalendarView.NO_DAY if there is no included day to adjust to.
+     */
+    long adjust(final LocalDateCalendarView calendar, final LocalDate date) {
+        return adjust(calendar, date.toEpochDay(), EpochDays.firstDayOfMonth(date), EpochDays.lastDayOfMonth(date));
+    }
+
+    /**
+     * Apply the convention to an epoch-day value.
+     *
+     * @param calendar        the calendar supplying the included days.
+     * @param day             the epoch-day value to adjust.
+     * @param firstDayOfMonth the epoch-day value of the first day in the month of 'day'.
+     * @param lastDayOfMonth  the epoch-day value of the last day in the month of 'day'.
+     * @return the adjusted epoch-day value or LocalDateCalendarView.NO_DAY if there is no included day to adjust to.
+     */
+    abstract long adjust(LocalDateCalendarView calendar, long day, long firstDayOfMonth, long lastDayOfMonth);
+
+    private static long following(final LocalDateCalendarView calendar, final long day) {
+        return calendar.isIncluded(day) ? day : calendar.nextIncluded(day);
+    }
+
+    private static long preceding(final LocalDateCalendarView calendar, final long day) {
+        return calendar.isIncluded(day) ? day : calendar.previousIncluded(day);
+    }
+}
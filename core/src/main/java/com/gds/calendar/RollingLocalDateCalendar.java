@@ -0,0 +1,368 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.springframework.util.Assert.notEmpty;
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A calendar over the last N days up to an end date that can be moved forward, for example, a calendar of the last
+ * year of business days up to today that is advanced every midnight without being rebuilt.
+ * <p>
+ * Days are held one bit per day in a ring buffer of long words, words are aligned on absolute epoch-day boundaries as
+ * in DayBitmap and word n lives in ring slot n modulo the ring size. Advancing the window clears the days that fall
+ * out of it and fills in the days that enter it, so advanceTo(...) does work in proportion to the number of days
+ * advanced, never more than the window length. New days are included according to the calendar's DayRule, days that
+ * fall out of the window are reported to listeners with a DATES_EVICTED event. Listeners are given this calendar by
+ * the event context's getCalendarView(), its getCalendar() throws an IllegalStateException.
+ * <p>
+ * The window is at most a few thousand days, so rank based queries such as countIncludedBetween(...) scan the ring
+ * words rather than maintain a rank index.
+ */
+public final class RollingLocalDateCalendar implements LocalDateCalendarView {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BIT_INDEX_MASK = 63;
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+    // The longest window, some 45,000 years, its ring of 2^18 words keeps the ring size arithmetic well within an int.
+    private static final int MAX_CALENDAR_PERIOD = 1 << 24;
+    private final String calendarName;
+    private final int calendarPeriod;
+    private final DayRule rule;
+    private final long[] ring;
+    private final int ringMask;
+    private final ListenerRegistry listenerRegistry = new ListenerRegistry();
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long firstDay;
+    private long lastDay;
+    private int cardinality;
+
+    /**
+     * Create a rolling calendar whose days are included according to the supplied rule.
+     *
+     * @param endDate        the last day of the calendar window.
+     * @param calendarName   friendly name of the calendar.
+     * @param calendarPeriod the length (in days) of the calendar window.
+     * @param rule           the rule deciding which days entering the window are included.
+     * @throws IllegalArgumentException if endDate, calendarName or rule is null.
+     * @throws IllegalStateException    if calendarPeriod is less than or equal to zero or greater than 2^24.
+     */
+    public RollingLocalDateCalendar(final LocalDate endDate, final String calendarName, final int calendarPeriod,
+                                    final DayRule rule) {
+
+        notNull(endDate, "Mandatory argument 'endDate' is missing");
+        notNull(calendarName, "Mandatory argument 'calendarName' is missing");
+        notNull(rule, "Mandatory argument 'rule' is missing");
+        state(calendarPeriod > 0, "Argument 'calendarPeriod' must be > 0");
+        state(calendarPeriod <= MAX_CALENDAR_PERIOD, "Argument 'calendarPeriod' must be <= " + MAX_CALENDAR_PERIOD);
+        this.calendarName = calendarName;
+        this.calendarPeriod = calendarPeriod;
+        this.rule = rule;
+        // The window touches at most this many words, rounded up to a power of two for the slot mask.
+        final int words = ((calendarPeriod + 62) >> ADDRESS_BITS_PER_WORD) + 1;
+        this.ring = new long[Integer.highestOneBit(words) == words ? words : Integer.highestOneBit(words) << 1];
+        this.ringMask = ring.length - 1;
+        this.lastDay = endDate.toEpochDay();
+        this.firstDay = lastDay - (calendarPeriod - 1);
+        this.endDate = endDate;
+        this.startDate = LocalDate.ofEpochDay(firstDay);
+        fill(firstDay, lastDay, null);
+    }
+
+    /**
+     * Move the calendar window forward so that it ends on the supplied date. Days that fall out of the window are
+     * excluded and reported to registered listeners with a single DATES_EVICTED event, latest date first. Days that
+     * enter the window are included according to the calendar's rule and the included ones are reported with a
+     * single DATES_ADDED event. No event is raised when there are no such days.
+     *
+     * @param newEnd the new last day of the calendar window.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if newEnd is null.
+     * @throws IllegalStateException    if newEnd is before the current end date.
+     */
+    public RollingLocalDateCalendar advanceTo(final LocalDate newEnd) {
+
+        notNull(newEnd, "Mandatory argument 'newEnd' is missing.");
+        state(!newEnd.isBefore(endDate), "Argument 'newEnd' must not be before the calendar end date");
+        final long newLastDay = newEnd.toEpochDay();
+        final long newFirstDay = newLastDay - (calendarPeriod - 1);
+        final boolean notifyEvicted = listenerRegistry.wants(CalendarChangeEvent.DATES_EVICTED);
+        final List<LocalDate> evicted = notifyEvicted ? new ArrayList<>() : Collections.emptyList();
+        for (long day = Math.min(newFirstDay - 1, lastDay); day >= firstDay; day--)
+            if (exclude(day) && notifyEvicted)
+                evicted.add(LocalDate.ofEpochDay(day));
+        final long fillFrom = Math.max(lastDay + 1, newFirstDay);
+        firstDay = newFirstDay;
+        lastDay = newLastDay;
+        startDate = LocalDate.ofEpochDay(firstDay);
+        endDate = newEnd;
+        final boolean notifyAdded = listenerRegistry.wants(CalendarChangeEvent.DATES_ADDED);
+        final List<LocalDate> added = notifyAdded ? new ArrayList<>() : null;
+        fill(fillFrom, newLastDay, added);
+        if (!evicted.isEmpty())
+            listenerRegistry.fire(LocalDateCalendar.context(CalendarChangeEvent.DATES_EVICTED,
+                    () -> "Dates evicted from calendar window.", this, evicted.toArray(new LocalDate[]{})));
+        if (notifyAdded && !added.isEmpty())
+            listenerRegistry.fire(LocalDateCalendar.context(CalendarChangeEvent.DATES_ADDED,
+                    () -> "Collection of dates added to calendar.", this, added.toArray(new LocalDate[]{})));
+        return this;
+    }
+
+    /**
+     * Include the supplied date in the calendar, see LocalDateCalendar.add(LocalDate). The date remains included until
+     * it is removed or leaves the window.
+     *
+     * @param date the date to include.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied date is null or outside the calendar window.
+     */
+    public RollingLocalDateCalendar add(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (isOutsideOfCalendarRange(date))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        if (include(date.toEpochDay()) && listenerRegistry.wants(CalendarChangeEvent.DATE_ADDED))
+            listenerRegistry.fire(LocalDateCalendar.context(CalendarChangeEvent.DATE_ADDED,
+                    () -> "New date added to calendar.", this, date));
+        return this;
+    }
+
+    /**
+     * Exclude the supplied date from the calendar, see LocalDateCalendar.remove(LocalDate).
+     *
+     * @param date the date to exclude.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied date is null or is not included in the calendar.
+     */
+    public RollingLocalDateCalendar remove(final LocalDate date) {
+
+        notNull(date, "Mandatory argument 'date' is missing.");
+        if (!exclude(date.toEpochDay()))
+            throw new IllegalArgumentException("Date supplied is not managed by this calendar.");
+        if (listenerRegistry.wants(CalendarChangeEvent.DATE_REMOVED))
+            listenerRegistry.fire(LocalDateCalendar.context(CalendarChangeEvent.DATE_REMOVED,
+                    () -> "Date removed from calendar.", this, date));
+        return this;
+    }
+
+    /**
+     * Register a listener with this calendar.
+     *
+     * @param listener an implementation of the listener interface.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public RollingLocalDateCalendar register(final LocalDateCalendarListener listener) {
+        return register(listener, EnumSet.allOf(CalendarChangeEvent.class));
+    }
+
+    /**
+     * Register a listener with this calendar for the supplied event types only, see
+     * LocalDateCalendar.register(LocalDateCalendarListener, EnumSet).
+     *
+     * @param listener an implementation of the listener interface.
+     * @param events   the event types the listener is notified of.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null or events is null or empty.
+     */
+    public RollingLocalDateCalendar register(final LocalDateCalendarListener listener,
+                                             final EnumSet<CalendarChangeEvent> events) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        notEmpty(events, "Mandatory argument 'events' is missing or empty.");
+        listenerRegistry.register(listener, events, false);
+        return this;
+    }
+
+    /**
+     * Register a listener with this calendar for all event types, holding it weakly, see
+     * LocalDateCalendar.registerWeakly(LocalDateCalendarListener).
+     *
+     * @param listener an implementation of the listener interface.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public RollingLocalDateCalendar registerWeakly(final LocalDateCalendarListener listener) {
+        return registerWeakly(listener, EnumSet.allOf(CalendarChangeEvent.class));
+    }
+
+    /**
+     * Register a listener with this calendar for the supplied event types only, holding it weakly, see
+     * LocalDateCalendar.registerWeakly(LocalDateCalendarListener).
+     *
+     * @param listener an implementation of the listener interface.
+     * @param events   the event types the listener is notified of.
+     * @return the calendar instance.
+     * @throws IllegalArgumentException if the supplied listener is null or events is null or empty.
+     */
+    public RollingLocalDateCalendar registerWeakly(final LocalDateCalendarListener listener,
+                                                   final EnumSet<CalendarChangeEvent> events) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        notEmpty(events, "Mandatory argument 'events' is missing or empty.");
+        listenerRegistry.register(listener, events, true);
+        return this;
+    }
+
+    /**
+     * Remove every registration of the supplied listener, see LocalDateCalendar.unregister(LocalDateCalendarListener).
+     *
+     * @param listener a listener registered with this calendar.
+     * @return true if the listener was registered, false otherwise.
+     * @throws IllegalArgumentException if the supplied listener is null.
+     */
+    public boolean unregister(final LocalDateCalendarListener listener) {
+
+        notNull(listener, "Mandatory argument 'listener' is missing.");
+        return listenerRegistry.unregister(listener);
+    }
+
+    @Override
+    public String getName() {
+        return calendarName;
+    }
+
+    @Override
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    @Override
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public boolean isIncluded(final long epochDay) {
+        return epochDay >= firstDay && epochDay <= lastDay
+                && (word(epochDay >> ADDRESS_BITS_PER_WORD) & (1L << epochDay)) != 0;
+    }
+
+    @Override
+    public long nextIncluded(final long epochDay) {
+
+        if (epochDay >= lastDay)
+            return NO_DAY;
+        final long from = Math.max(epochDay + 1, firstDay);
+        final long lastWord = lastDay >> ADDRESS_BITS_PER_WORD;
+        long wordIndex = from >> ADDRESS_BITS_PER_WORD;
+        for (long word = word(wordIndex) & (WORD_MASK << from); ; word = word(++wordIndex)) {
+            if (word != 0)
+                return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+            if (wordIndex == lastWord)
+                return NO_DAY;
+        }
+    }
+
+    @Override
+    public long previousIncluded(final long epochDay) {
+
+        if (epochDay <= firstDay)
+            return NO_DAY;
+        final long from = Math.min(epochDay - 1, lastDay);
+        final long firstWord = firstDay >> ADDRESS_BITS_PER_WORD;
+        long wordIndex = from >> ADDRESS_BITS_PER_WORD;
+        for (long word = word(wordIndex) & (WORD_MASK >>> -(from + 1)); ; word = word(--wordIndex)) {
+            if (word != 0)
+                return (wordIndex << ADDRESS_BITS_PER_WORD) + BIT_INDEX_MASK - Long.numberOfLeadingZeros(word);
+            if (wordIndex == firstWord)
+                return NO_DAY;
+        }
+    }
+
+    @Override
+    public long plusIncluded(final long epochDay, final int includedDays) {
+
+        if (includedDays > 0)
+            return dayAtRank(rank(epochDay == Long.MAX_VALUE ? epochDay : epochDay + 1) + (includedDays - 1L));
+        if (includedDays < 0)
+            return dayAtRank(rank(epochDay) + (long) includedDays);
+        return isIncluded(epochDay) ? epochDay : NO_DAY;
+    }
+
+    @Override
+    public int countIncludedBetween(final long from, final long to) {
+        return rank(to) - rank(from);
+    }
+
+    /**
+     * Count the included days that fall strictly before the supplied day.
+     */
+    private int rank(final long epochDay) {
+
+        if (epochDay <= firstDay)
+            return 0;
+        if (epochDay > lastDay)
+            return cardinality;
+        final long target = epochDay >> ADDRESS_BITS_PER_WORD;
+        int rank = 0;
+        for (long wordIndex = firstDay >> ADDRESS_BITS_PER_WORD; wordIndex < target; wordIndex++)
+            rank += Long.bitCount(word(wordIndex));
+        return rank + Long.bitCount(word(target) & ~(WORD_MASK << epochDay));
+    }
+
+    /**
+     * Locate the included day with the supplied rank, ranks outside of the included days yield NO_DAY.
+     */
+    private long dayAtRank(final long rank) {
+
+        if (rank < 0 || rank >= cardinality)
+            return NO_DAY;
+        long remaining = rank;
+        long wordIndex = firstDay >> ADDRESS_BITS_PER_WORD;
+        for (int count = Long.bitCount(word(wordIndex)); count <= remaining; count = Long.bitCount(word(wordIndex))) {
+            remaining -= count;
+            wordIndex++;
+        }
+        long word = word(wordIndex);
+        for (; remaining > 0; remaining--)
+            word &= word - 1;
+        return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Include the days between the two supplied days, inclusive, that the rule includes, recording them latest date
+     * first in 'added' unless it is null.
+     */
+    private void fill(final long from, final long to, final List<LocalDate> added) {
+
+        for (long day = to; day >= from; day--) {
+            final LocalDate date = LocalDate.ofEpochDay(day);
+            if (rule.includes(date) && include(day) && added != null)
+                added.add(date);
+        }
+    }
+
+    private boolean include(final long epochDay) {
+
+        final int slot = (int) ((epochDay >> ADDRESS_BITS_PER_WORD) & ringMask);
+        final long bit = 1L << epochDay;
+        if ((ring[slot] & bit) != 0)
+            return false;
+        ring[slot] |= bit;
+        cardinality++;
+        return true;
+    }
+
+    private boolean exclude(final long epochDay) {
+
+        if (!isIncluded(epochDay))
+            return false;
+        ring[(int) ((epochDay >> ADDRESS_BITS_PER_WORD) & ringMask)] &= ~(1L << epochDay);
+        cardinality--;
+        return true;
+    }
+
+    private long word(final long wordIndex) {
+        return ring[(int) (wordIndex & ringMask)];
+    }
+}
@@ -0,0 +1,239 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.util.Assert.noNullElements;
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * A read-only calendar defined by rules rather than by a list of dates. A day is included when the calendar's DayRule
+ * includes it, for example, DayRule.weekdays(), and no HolidayRule yields it, for example, Easter Monday or 25
+ * December rolled to Monday. Holiday calendars that are the expansion of a handful of rules can be defined directly
+ * rather than pre-expanded into date files.
+ * <p>
+ * Rules are evaluated lazily a year at a time, the first query that touches a year expands the rules into a day
+ * bitmap for that year and later queries are answered from the bitmap. A bounded number of expanded years is kept,
+ * least recently used first out, so memory is proportional to the years in use rather than to the calendar range.
+ * <p>
+ * The calendar covers 1583, the first full year of the Gregorian calendar, to 9999 and so is effectively unbounded.
+ * Queries that return every date in the range, such as getAllDates(), expand every year and should be avoided in
+ * favour of range-bounded queries such as getDaysBetween(...), or use toLocalDateCalendar(...).
+ * <p>
+ * The calendar is not thread-safe, the year cache is updated by queries.
+ */
+public final class RuleBasedCalendar implements LocalDateCalendarView {
+
+    private static final int DEF_CACHED_YEARS = 16;
+    private static final LocalDate START_DATE = LocalDate.of(1583, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(9999, 12, 31);
+    private static final long FIRST_DAY = START_DATE.toEpochDay();
+    private static final long LAST_DAY = END_DATE.toEpochDay();
+    private final String calendarName;
+    private final DayRule dayRule;
+    private final List<HolidayRule> holidays;
+    private final Map<Integer, DayBitmap> years;
+
+    /**
+     * Create a rule-based calendar that keeps a default number of expanded years.
+     *
+     * @param calendarName friendly name of the calendar.
+     * @param dayRule      the rule deciding which days are included before holidays are excluded.
+     * @param holidays     the rules yielding the holidays to exclude.
+     * @throws IllegalArgumentException if any argument or holiday rule is null.
+     */
+    public RuleBasedCalendar(final String calendarName, final DayRule dayRule, final HolidayRule... holidays) {
+        this(calendarName, dayRule, holidays == null ? null : Arrays.asList(holidays), DEF_CACHED_YEARS);
+    }
+
+    /**
+     * Create a rule-based calendar.
+     *
+     * @param calendarName friendly name of the calendar.
+     * @param dayRule      the rule deciding which days are included before holidays are excluded.
+     * @param holidays     the rules yielding the holidays to exclude.
+     * @param cachedYears  the maximum number of expanded years kept.
+     * @throws IllegalArgumentException if any argument or holiday rule is null.
+     * @throws IllegalStateException    if cachedYears is less than or equal to zero.
+     */
+    public RuleBasedCalendar(final String calendarName, final DayRule dayRule, final List<HolidayRule> holidays,
+                             final int cachedYears) {
+
+        notNull(calendarName, "Mandatory argument 'calendarName' is missing.");
+        notNull(dayRule, "Mandatory argument 'dayRule' is missing.");
+        notNull(holidays, "Mandatory argument 'holidays' is missing.");
+        noNullElements(holidays.toArray(), "Mandatory argument 'holidays' contains a null rule.");
+        state(cachedYears > 0, "Argument 'cachedYears' must be > 0");
+        this.calendarName = calendarName;
+        this.dayRule = dayRule;
+        this.holidays = new ArrayList<>(holidays);
+        this.years = new LinkedHashMap<Integer, DayBitmap>(cachedYears * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, DayBitmap> eldest) {
+                return size() > cachedYears;
+            }
+        };
+    }
+
+    /**
+     * Expand the rules over the supplied range into a LocalDateCalendar, for example, to obtain a mutable calendar
+     * or one that can be combined with other LocalDateCalendar objects.
+     *
+     * @param endDate        the last day of the calendar.
+     * @param calendarPeriod the length (in days) of the calendar.
+     * @return a new calendar including the days this calendar includes over the supplied range.
+     * @throws IllegalArgumentException if endDate is null or the range is outside of this calendar's range.
+     * @throws IllegalStateException    if calendarPeriod is less than or equal to zero.
+     */
+    public LocalDateCalendar toLocalDateCalendar(final LocalDate endDate, final int calendarPeriod) {
+
+        notNull(endDate, "Mandatory argument 'endDate' is missing.");
+        state(calendarPeriod > 0, "Argument 'calendarPeriod' must be > 0");
+        final LocalDate startDate = endDate.minusDays(calendarPeriod - 1);
+        if (isOutsideOfCalendarRange(startDate) || isOutsideOfCalendarRange(endDate))
+            throw new IllegalArgumentException("Date supplied is outside of calendar range.");
+        return LocalDateCalendar.of(endDate, calendarName, calendarPeriod, getDaysBetween(startDate, endDate));
+    }
+
+    @Override
+    public String getName() {
+        return calendarName;
+    }
+
+    @Override
+    public LocalDate getStartDate() {
+        return START_DATE;
+    }
+
+    @Override
+    public LocalDate getEndDate() {
+        return END_DATE;
+    }
+
+    @Override
+    public boolean isIncluded(final long epochDay) {
+        return epochDay >= FIRST_DAY && epochDay <= LAST_DAY && year(yearOf(epochDay)).contains(epochDay);
+    }
+
+    @Override
+    public long nextIncluded(final long epochDay) {
+
+        if (epochDay >= LAST_DAY)
+            return NO_DAY;
+        final long from = Math.max(epochDay + 1, FIRST_DAY);
+        for (int year = yearOf(from); year <= END_DATE.getYear(); year++) {
+            final long day = year(year).next(from);
+            if (day != NO_DAY)
+                return day;
+        }
+        return NO_DAY;
+    }
+
+    @Override
+    public long previousIncluded(final long epochDay) {
+
+        if (epochDay <= FIRST_DAY)
+            return NO_DAY;
+        final long from = Math.min(epochDay - 1, LAST_DAY);
+        for (int year = yearOf(from); year >= START_DATE.getYear(); year--) {
+            final long day = year(year).previous(from);
+            if (day != NO_DAY)
+                return day;
+        }
+        return NO_DAY;
+    }
+
+    @Override
+    public long plusIncluded(final long epochDay, final int includedDays) {
+
+        if (includedDays == 0)
+            return isIncluded(epochDay) ? epochDay : NO_DAY;
+        if (includedDays > 0) {
+            if (epochDay >= LAST_DAY)
+                return NO_DAY;
+            final long from = Math.max(epochDay + 1, FIRST_DAY);
+            long remaining = includedDays;
+            for (int year = yearOf(from); year <= END_DATE.getYear(); year++) {
+                final DayBitmap days = year(year);
+                final int skipped = days.rank(from);
+                if (remaining <= days.cardinality() - skipped)
+                    return days.select((int) (skipped + remaining - 1));
+                remaining -= days.cardinality() - skipped;
+            }
+            return NO_DAY;
+        }
+        if (epochDay <= FIRST_DAY)
+            return NO_DAY;
+        final long to = Math.min(epochDay, LAST_DAY + 1);
+        long remaining = -(long) includedDays;
+        for (int year = yearOf(to - 1); year >= START_DATE.getYear(); year--) {
+            final DayBitmap days = year(year);
+            final int preceding = days.rank(to);
+            if (remaining <= preceding)
+                return days.select((int) (preceding - remaining));
+            remaining -= preceding;
+        }
+        return NO_DAY;
+    }
+
+    @Override
+    public int countIncludedBetween(final long from, final long to) {
+
+        final long first = Math.max(from, FIRST_DAY);
+        final long last = Math.min(to - 1, LAST_DAY);
+        if (last < first)
+            return 0;
+        int count = 0;
+        for (int year = yearOf(first), lastYear = yearOf(last); year <= lastYear; year++)
+            count += year(year).count(first, last);
+        return count;
+    }
+
+    /**
+     * The number of expanded years currently cached.
+     */
+    int cachedYears() {
+        return years.size();
+    }
+
+    /**
+     * The expanded day bitmap of the supplied year, expanding the rules if the year is not cached.
+     */
+    private DayBitmap year(final int year) {
+
+        DayBitmap days = years.get(year);
+        if (days == null) {
+            days = expand(year);
+            years.put(year, days);
+        }
+        return days;
+    }
+
+    private DayBitmap expand(final int year) {
+
+        final DayBitmap days = new DayBitmap(Year.of(year).atDay(1).toEpochDay(),
+                Year.of(year).atMonth(12).atEndOfMonth().toEpochDay());
+        for (LocalDate date = Year.of(year).atDay(1); date.getYear() == year; date = date.plusDays(1))
+            if (dayRule.includes(date))
+                days.add(date.toEpochDay());
+        // Rolled holidays can move into the next year or, rolled backwards, into the previous year.
+        for (final HolidayRule holiday : holidays)
+            for (int ruleYear = year - 1; ruleYear <= year + 1; ruleYear++)
+                for (final LocalDate date : holiday.datesIn(Year.of(ruleYear)))
+                    days.remove(date.toEpochDay());
+        return days;
+    }
+
+    private static int yearOf(final long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).getYear();
+    }
+}
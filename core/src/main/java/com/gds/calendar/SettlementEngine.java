@@ -0,0 +1,186 @@
+package com.gds.calendar;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static com.gds.calendar.LocalDateCalendarView.NO_DAY;
+import static org.springframework.util.Assert.noNullElements;
+import static org.springframework.util.Assert.notEmpty;
+import static org.springframework.util.Assert.notNull;
+import static org.springframework.util.Assert.state;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Computes T+n settlement dates for large batches of trades, each trade settling against one of a fixed number of
+ * calendar sets, for example, the currency calendars of a currency pair. A settlement day is a day included in every
+ * calendar of the trade's set.
+ * <p>
+ * Trades are supplied in columns, a trade date, a lag and a calendar set id per trade, where the calendar set id is
+ * the index of the set in the list the engine was created with. Settlement days are written to a column supplied by
+ * the caller, so buffers can be reused from one batch to the next and a batch allocates nothing per trade.
+ * <p>
+ * The joint settlement days of each calendar set are combined into a single day store, with its rank index, when the
+ * engine is created, so each trade is settled with one rank and one select rather than by stepping a day at a time
+ * over several calendars. Later changes to the member calendars are not reflected, create a new engine to pick them
+ * up. The engine is immutable and large batches are partitioned across a ForkJoinPool.
+ */
+public final class SettlementEngine {
+
+    // Below this many trades a batch is settled on the calling thread, splitting further costs more than it saves.
+    static final int MIN_SPLIT_TRADES = 1 << 14;
+    private final DayBitmap[] calendarSets;
+
+    /**
+     * Create an engine over the supplied calendar sets, the id of each set is its index in the list.
+     *
+     * @param calendarSets the calendar sets, each a non-empty list of calendars whose ranges overlap.
+     * @throws IllegalArgumentException if any argument, set or calendar is null, any set is empty or the calendar
+     *                                  ranges of any set do not overlap.
+     */
+    public SettlementEngine(final List<List<LocalDateCalendar>> calendarSets) {
+
+        notNull(calendarSets, "Mandatory argument 'calendarSets' is missing.");
+        noNullElements(calendarSets.toArray(), "Mandatory argument 'calendarSets' contains a null set.");
+        this.calendarSets = new DayBitmap[calendarSets.size()];
+        for (int set = 0; set < this.calendarSets.length; set++)
+            this.calendarSets[set] = combine(calendarSets.get(set));
+    }
+
+    /**
+     * The number of calendar sets, valid calendar set ids are zero to this number exclusive.
+     */
+    public int getCalendarSetCount() {
+        return calendarSets.length;
+    }
+
+    /**
+     * Compute the settlement date of a single trade.
+     *
+     * @param tradeDate   the trade date.
+     * @param lag         the number of settlement days after the trade date, zero settles on the trade date or, if
+     *                    that is not a settlement day, the next settlement day. A negative lag moves backwards.
+     * @param calendarSet the id of the trade's calendar set.
+     * @return the settlement date or an empty Optional if the trade date or settlement date would fall outside of the
+     * range of the calendar set.
+     * @throws IllegalArgumentException if the trade date is null or the calendar set id is unknown.
+     */
+    public Optional<LocalDate> settlementDate(final LocalDate tradeDate, final int lag, final int calendarSet) {
+
+        notNull(tradeDate, "Mandatory argument 'tradeDate' is missing.");
+        return EpochDays.toDate(settle(tradeDate.toEpochDay(), lag, calendarSet));
+    }
+
+    /**
+     * Compute the settlement days of a batch of trades in parallel on the common ForkJoinPool. See
+     * settle(ForkJoinPool, long[], int[], int[], long[]).
+     */
+    public int settle(final long[] tradeDays, final int[] lags, final int[] calendarSets,
+                      final long[] settlementDays) {
+        return settle(ForkJoinPool.commonPool(), tradeDays, lags, calendarSets, settlementDays);
+    }
+
+    /**
+     * Compute the settlement days of a batch of trades, settlementDays[i] is set to the settlement day of the trade
+     * with trade day tradeDays[i], lag lags[i] and calendar set id calendarSets[i], as by settlementDate(...), or
+     * to NO_DAY if the trade cannot be settled within the range of its calendar set.
+     *
+     * @param pool           the pool that settles the batch.
+     * @param tradeDays      the trade dates as epoch-day values.
+     * @param lags           the lag of each trade.
+     * @param calendarSets   the calendar set id of each trade.
+     * @param settlementDays receives the settlement day of each trade as an epoch-day value.
+     * @return the number of trades that could not be settled.
+     * @throws IllegalArgumentException if any argument is null or any calendar set id is unknown.
+     * @throws IllegalStateException    if the columns are not at least as long as tradeDays.
+     */
+    public int settle(final ForkJoinPool pool, final long[] tradeDays, final int[] lags, final int[] calendarSets,
+                      final long[] settlementDays) {
+
+        notNull(pool, "Mandatory argument 'pool' is missing.");
+        notNull(tradeDays, "Mandatory argument 'tradeDays' is missing.");
+        notNull(lags, "Mandatory argument 'lags' is missing.");
+        notNull(calendarSets, "Mandatory argument 'calendarSets' is missing.");
+        notNull(settlementDays, "Mandatory argument 'settlementDays' is missing.");
+        state(lags.length >= tradeDays.length && calendarSets.length >= tradeDays.length
+                && settlementDays.length >= tradeDays.length, "Trade columns must be at least as long as 'tradeDays'");
+        final Batch batch = new Batch(tradeDays, lags, calendarSets, settlementDays, 0, tradeDays.length);
+        return tradeDays.length < MIN_SPLIT_TRADES ? batch.compute() : pool.invoke(batch);
+    }
+
+    private long settle(final long tradeDay, final int lag, final int calendarSet) {
+
+        if (calendarSet < 0 || calendarSet >= calendarSets.length)
+            throw new IllegalArgumentException("Calendar set id supplied is unknown [" + calendarSet + "].");
+        final DayBitmap days = calendarSets[calendarSet];
+        if (tradeDay < days.getFirstDay() || tradeDay > days.getLastDay())
+            return NO_DAY;
+        final long rank = lag > 0 ? days.rank(tradeDay + 1) + (lag - 1L) : days.rank(tradeDay) + (long) lag;
+        return rank >= 0 && rank < days.cardinality() ? days.select((int) rank) : NO_DAY;
+    }
+
+    private static DayBitmap combine(final List<LocalDateCalendar> calendars) {
+
+        notEmpty(calendars, "Mandatory argument 'calendarSets' contains an empty set.");
+        noNullElements(calendars.toArray(), "Mandatory argument 'calendarSets' contains a null calendar.");
+        final DayBitmap[] stores = new DayBitmap[calendars.size()];
+        long firstDay = Long.MIN_VALUE;
+        long lastDay = Long.MAX_VALUE;
+        for (int index = 0; index < stores.length; index++) {
+            stores[index] = calendars.get(index).days();
+            firstDay = Math.max(firstDay, stores[index].getFirstDay());
+            lastDay = Math.min(lastDay, stores[index].getLastDay());
+        }
+        if (lastDay < firstDay)
+            throw new IllegalArgumentException("Member calendar ranges do not overlap.");
+        final DayBitmap combined = DayBitmap.combine(firstDay, lastDay, (left, right) -> left & right, stores);
+        combined.rankAll();
+        return combined;
+    }
+
+    private final class Batch extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+        private final long[] tradeDays;
+        private final int[] lags;
+        private final int[] calendarSets;
+        private final long[] settlementDays;
+        private final int from;
+        private final int to;
+
+        private Batch(final long[] tradeDays, final int[] lags, final int[] calendarSets,
+                      final long[] settlementDays, final int from, final int to) {
+
+            this.tradeDays = tradeDays;
+            this.lags = lags;
+            this.calendarSets = calendarSets;
+            this.settlementDays = settlementDays;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+
+            if (to - from < MIN_SPLIT_TRADES * 2) {
+                int unsettled = 0;
+                for (int index = from; index < to; index++) {
+                    final long day = settle(tradeDays[index], lags[index], calendarSets[index]);
+                    settlementDays[index] = day;
+                    if (day == NO_DAY)
+                        unsettled++;
+                }
+                return unsettled;
+            }
+            final int middle = (from + to) >>> 1;
+            final Batch prefix = new Batch(tradeDays, lags, calendarSets, settlementDays, from, middle);
+            prefix.fork();
+            final int suffixUnsettled = new Batch(tradeDays, lags, calendarSets, settlementDays, middle, to).compute();
+            return prefix.join() + suffixUnsettled;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.gds.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ * <p>
+ * Base class for calendar views that answer every query from an immutable LocalDateCalendar snapshot. Each query is
+ * delegated in full to the snapshot returned by current(), so a single query never mixes two snapshots.
+ */
+abstract class SnapshotCalendarView implements LocalDateCalendarView {
+
+    /**
+     * The snapshot that answers queries, it must never be mutated.
+     */
+    abstract LocalDateCalendar current();
+
+    @Override
+    public String getName() {
+        return current().getName();
+    }
+
+    @Override
+    public LocalDate getStartDate() {
+        return current().getStartDate();
+    }
+
+    @Override
+    public LocalDate getEndDate() {
+        return current().getEndDate();
+    }
+
+    @Override
+    public boolean isIncluded(final long epochDay) {
+        return current().isIncluded(epochDay);
+    }
+
+    @Override
+    public long nextIncluded(final long epochDay) {
+        return current().nextIncluded(epochDay);
+    }
+
+    @Override
+    public long previousIncluded(final long epochDay) {
+        return current().previousIncluded(epochDay);
+    }
+
+    @Override
+    public long plusIncluded(final long epochDay, final int includedDays) {
+        return current().plusIncluded(epochDay, includedDays);
+    }
+
+    @Override
+    public int countIncludedBetween(final long from, final long to) {
+        return current().countIncludedBetween(from, to);
+    }
+
+    @Override
+    public int includedDaysInRange(final long from, final long to, final int[] sink) {
+        return current().includedDaysInRange(from, to, sink);
+    }
+
+    @Override
+    public int containsAll(final long[] epochDays, final boolean[] result) {
+        return current().containsAll(epochDays, result);
+    }
+
+    @Override
+    public int containsAll(final long[] epochDays, final int from, final int to, final boolean[] result) {
+        return current().containsAll(epochDays, from, to, result);
+    }
+
+    @Override
+    public int containsAll(final long[] epochDays, final BitSet result) {
+        return current().containsAll(epochDays, result);
+    }
+
+    @Override
+    public boolean isOutsideOfCalendarRange(final LocalDate date) {
+        return current().isOutsideOfCalendarRange(date);
+    }
+
+    @Override
+    public Optional<LocalDate> getDay(final LocalDate date) {
+        return current().getDay(date);
+    }
+
+    @Override
+    public Optional<LocalDate> getDayBefore(final LocalDate date) {
+        return current().getDayBefore(date);
+    }
+
+    @Override
+    public Optional<LocalDate> nextIncludedDay(final LocalDate date) {
+        return current().nextIncludedDay(date);
+    }
+
+    @Override
+    public Optional<LocalDate> previousIncludedDay(final LocalDate date) {
+        return current().previousIncludedDay(date);
+    }
+
+    @Override
+    public Optional<LocalDate> plusIncludedDays(final LocalDate date, final int includedDays) {
+        return current().plusIncludedDays(date, includedDays);
+    }
+
+    @Override
+    public Optional<LocalDate> minusIncludedDays(final LocalDate date, final int includedDays) {
+        return current().minusIncludedDays(date, includedDays);
+    }
+
+    @Override
+    public int countIncludedDaysBetween(final LocalDate from, final LocalDate to) {
+        return current().countIncludedDaysBetween(from, to);
+    }
+
+    @Override
+    public Optional<LocalDate> adjust(final LocalDate date, final RollConvention convention) {
+        return current().adjust(date, convention);
+    }
+
+    @Override
+    public void adjustAll(final LocalDate[] in, final RollConvention convention, final LocalDate[] out) {
+        current().adjustAll(in, convention, out);
+    }
+
+    @Override
+    public double yearFraction(final LocalDate start, final LocalDate end, final DayCount dayCount) {
+        return current().yearFraction(start, end, dayCount);
+    }
+
+    @Override
+    public void yearFractions(final LocalDate[] schedule, final DayCount dayCount, final double[] out) {
+        current().yearFractions(schedule, dayCount, out);
+    }
+
+    @Override
+    public List<LocalDate> getDatesForDaysOfWeek(final DayOfWeek dayOfWeek) {
+        return current().getDatesForDaysOfWeek(dayOfWeek);
+    }
+
+    @Override
+    public boolean isFirstDayInTheMonth(final LocalDate date) {
+        return current().isFirstDayInTheMonth(date);
+    }
+
+    @Override
+    public Optional<LocalDate> getFirstDayOfTheMonth(final Year year, final Month month) {
+        return current().getFirstDayOfTheMonth(year, month);
+    }
+
+    @Override
+    public List<LocalDate> getDaysInMonth(final Year year, final Month month) {
+        return current().getDaysInMonth(year, month);
+    }
+
+    @Override
+    public List<LocalDate> getDaysInMonth(final Month month) {
+        return current().getDaysInMonth(month);
+    }
+
+    @Override
+    public List<LocalDate> getDaysInYear(final Year year) {
+        return current().getDaysInYear(year);
+    }
+
+    @Override
+    public List<LocalDate> getDaysBetween(final LocalDate from, final LocalDate to) {
+        return current().getDaysBetween(from, to);
+    }
+
+    @Override
+    public boolean isDayOfTheMonth(final LocalDate date, final int dayOffset) {
+        return current().isDayOfTheMonth(date, dayOffset);
+    }
+
+    @Override
+    public Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date) {
+        return current().getLastDayOfMonthBefore(date);
+    }
+
+    @Override
+    public Optional<LocalDate> getLastDayOfMonthBefore(final LocalDate date, final int monthSubtraction) {
+        return current().getLastDayOfMonthBefore(date, monthSubtraction);
+    }
+
+    @Override
+    public List<LocalDate> getAllDates() {
+        return current().getAllDates();
+    }
+
+    @Override
+    public void forEachIncluded(final long from, final long to, final IntConsumer action) {
+        current().forEachIncluded(from, to, action);
+    }
+
+    @Override
+    public void forEachIncluded(final LocalDate from, final LocalDate to, final Consumer<LocalDate> action) {
+        current().forEachIncluded(from, to, action);
+    }
+
+    @Override
+    public Spliterator<LocalDate> spliterator(final LocalDate from, final LocalDate to) {
+        return current().spliterator(from, to);
+    }
+
+    @Override
+    public Spliterator<LocalDate> spliterator() {
+        return current().spliterator();
+    }
+
+    @Override
+    public Stream<LocalDate> stream(final LocalDate from, final LocalDate to) {
+        return current().stream(from, to);
+    }
+
+    @Override
+    public Stream<LocalDate> stream() {
+        return current().stream();
+    }
+}
@@ -19,7 +19,9 @@ import java.io.IOException;
 import java.io.Reader;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import static org.springframework.util.Assert.notNull;
 import static org.springframework.util.StringUtils.isEmpty;
@@ -75,16 +77,15 @@ public class ConverterConfiguration implements EnvironmentAware {
             notNull(dateCollectionSource, "Mandatory argument 'dateCollectionSource' is missing");
             final LocalDate calendarEndDate = isEmpty(calendarEndDateText) ? LocalDate.now()
                     : stringToLocalDateConverter().convert(calendarEndDateText);
-            final LocalDateCalendar calendar = new LocalDateCalendar(calendarEndDate, calendarName, calendarDuration)
-                    .removeWeekDays().removeWeekendDays();
+            final List<LocalDate> dates = new ArrayList<>();
 
             try (final Reader reader = new BufferedReader(new FileReader(
                     new File(holidayFileLocation(), dateCollectionSource)))) {
                 CSVFormat.DEFAULT.parse(reader).getRecords().forEach(
                         record -> record.forEach(
-                                value -> calendar.add(stringToLocalDateConverter().convert(value))
+                                value -> dates.add(stringToLocalDateConverter().convert(value))
                         ));
-                return calendar;
+                return LocalDateCalendar.of(calendarEndDate, calendarName, calendarDuration, dates);
             } catch (IOException e) {
                 throw new IllegalStateException("Directory or file name correct?", e);
             }
@@ -0,0 +1,222 @@
+package com.gds.calendar;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.gds.calendar.AsyncEventDispatcher.BackPressure.BLOCK;
+import static com.gds.calendar.AsyncEventDispatcher.BackPressure.COALESCE;
+import static com.gds.calendar.AsyncEventDispatcher.BackPressure.DROP_OLDEST;
+import static com.gds.calendar.CalendarChangeEvent.DATE_REMOVED;
+import static com.gds.calendar.CalendarChangeEvent.EVENTS_COALESCED;
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class AsyncEventDispatcherTest {
+
+    private final LocalDate endDate = of(2018, 12, 30);
+    private final LocalDateCalendar london = new LocalDateCalendar(endDate, "london", 365);
+    private final LocalDateCalendar newYork = new LocalDateCalendar(endDate, "new york", 365);
+    private final List<List<ChangeEventContext>> runs = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AsyncEventDispatcher dispatcher;
+    // Records each run of events delivered, holding the dispatcher thread on the first run until released.
+    private final LocalDateCalendarListener recorder = new LocalDateCalendarListener() {
+        @Override
+        public void event(final ChangeEventContext context) {
+            events(Collections.singletonList(context));
+        }
+
+        @Override
+        public void events(final List<ChangeEventContext> contexts) {
+
+            runs.add(new ArrayList<>(contexts));
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+
+    @After
+    public void after() {
+        release.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    public void runsForSameCalendar_deliveredTogether() throws Exception {
+
+        dispatcher = blockedDispatcher(16, BLOCK);
+        london.remove(endDate);
+        await(started);
+        london.remove(endDate.minusDays(1)).remove(endDate.minusDays(2));
+        newYork.remove(endDate);
+        london.remove(endDate.minusDays(3));
+        assertThat(dispatcher.getLag(recorder), is(5L));
+        release.countDown();
+        dispatcher.close();
+        assertThat(runs.size(), is(4));
+        assertThat(runs.get(1).size(), is(2));
+        assertThat(runs.get(1).get(1).getDates().get(0), is(endDate.minusDays(2)));
+        assertThat(runs.get(2).get(0).getCalendarView(), is(newYork));
+        assertThat(runs.get(3).get(0).getCalendarChangeEvent(), is(DATE_REMOVED));
+        assertThat(dispatcher.getLag(recorder), is(0L));
+    }
+
+    @Test
+    public void dropOldest() throws Exception {
+
+        dispatcher = blockedDispatcher(4, DROP_OLDEST);
+        london.remove(endDate);
+        await(started);
+        for (int day = 1; day <= 10; day++)
+            london.remove(endDate.minusDays(day));
+        assertThat(dispatcher.getDroppedEvents(), is(6L));
+        assertThat(dispatcher.getLag(recorder), is(5L));
+        release.countDown();
+        dispatcher.close();
+        assertThat(runs.get(1).size(), is(4));
+        assertThat(runs.get(1).get(0).getDates().get(0), is(endDate.minusDays(7)));
+    }
+
+    @Test
+    public void coalesce() throws Exception {
+
+        dispatcher = blockedDispatcher(2, COALESCE);
+        london.remove(endDate);
+        await(started);
+        for (int day = 1; day <= 5; day++)
+            london.remove(endDate.minusDays(day));
+        newYork.remove(endDate);
+        assertThat(dispatcher.getCoalescedEvents(), is(4L));
+        release.countDown();
+        dispatcher.close();
+        final List<ChangeEventContext> delivered = new ArrayList<>();
+        runs.forEach(delivered::addAll);
+        assertThat(delivered.size(), is(1 + 2 + 2));
+        final Map<LocalDateCalendarView, String> coalesced = new HashMap<>();
+        for (final ChangeEventContext context : delivered.subList(3, 5)) {
+            assertThat(context.getCalendarChangeEvent(), is(EVENTS_COALESCED));
+            coalesced.put(context.getCalendarView(), context.getMessage().get());
+        }
+        assertThat(coalesced.get(london), is("3 events coalesced, calendar changed."));
+        assertThat(coalesced.get(newYork), is("1 events coalesced, calendar changed."));
+    }
+
+    @Test
+    public void block_waitsForSpace() throws Exception {
+
+        dispatcher = blockedDispatcher(2, BLOCK);
+        london.remove(endDate);
+        await(started);
+        final ExecutorService writer = Executors.newSingleThreadExecutor();
+        final Future<?> writes = writer.submit(() -> {
+            for (int day = 1; day <= 5; day++)
+                london.remove(endDate.minusDays(day));
+        });
+        Thread.sleep(50);
+        assertThat(writes.isDone(), is(false));
+        release.countDown();
+        writes.get(10, TimeUnit.SECONDS);
+        writer.shutdown();
+        dispatcher.close();
+        assertThat(runs.stream().mapToInt(List::size).sum(), is(6));
+        assertThat(dispatcher.getDroppedEvents(), is(0L));
+    }
+
+    @Test
+    public void listenerException_doesNotStopDispatcher() {
+
+        dispatcher = new AsyncEventDispatcher(8, BLOCK);
+        final List<ChangeEventContext> events = new CopyOnWriteArrayList<>();
+        dispatcher.register(context -> {
+            throw new IllegalStateException("listener failure");
+        }).register(events::add);
+        london.register(dispatcher);
+        final Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        Thread.setDefaultUncaughtExceptionHandler((thread, failure) -> failures.add(failure));
+        try {
+            london.remove(endDate);
+            newYork.register(dispatcher).remove(endDate);
+            dispatcher.close();
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+        assertThat(events.size(), is(2));
+        assertThat(failures.size(), is(2));
+    }
+
+    @Test
+    public void closed_discardsEventsWithoutFailingWriter() {
+
+        dispatcher = new AsyncEventDispatcher(8, BLOCK);
+        final List<ChangeEventContext> events = new ArrayList<>();
+        london.register(dispatcher).register(events::add);
+        dispatcher.close();
+        london.remove(endDate);
+        assertThat(london.getDay(endDate).isPresent(), is(false));
+        assertThat(events.size(), is(1));
+        assertThat(dispatcher.getRejectedEvents(), is(1L));
+    }
+
+    @Test
+    public void close_releasesBlockedWriter() throws Exception {
+
+        dispatcher = blockedDispatcher(2, BLOCK);
+        london.remove(endDate);
+        await(started);
+        final ExecutorService writer = Executors.newSingleThreadExecutor();
+        final Future<?> writes = writer.submit(() -> {
+            for (int day = 1; day <= 5; day++)
+                london.remove(endDate.minusDays(day));
+        });
+        Thread.sleep(50);
+        final Thread closer = new Thread(dispatcher::close);
+        closer.start();
+        Thread.sleep(50);
+        writes.get(10, TimeUnit.SECONDS);
+        writer.shutdown();
+        release.countDown();
+        closer.join(10_000);
+        assertThat(dispatcher.getRejectedEvents() > 0, is(true));
+        assertThat(london.getDay(endDate.minusDays(5)).isPresent(), is(false));
+    }
+
+    /**
+     * A dispatcher whose listener holds the dispatcher thread on the first event until released.
+     */
+    private AsyncEventDispatcher blockedDispatcher(final int capacity,
+                                                  final AsyncEventDispatcher.BackPressure backPressure) {
+
+        final AsyncEventDispatcher blocked = new AsyncEventDispatcher(capacity, backPressure).register(recorder);
+        london.register(blocked);
+        newYork.register(blocked);
+        return blocked;
+    }
+
+    private void await(final CountDownLatch latch) throws InterruptedException {
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+    }
+}
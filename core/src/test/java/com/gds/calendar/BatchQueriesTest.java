@@ -0,0 +1,90 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class BatchQueriesTest {
+
+    private final LocalDate endDate = of(2019, 12, 31);
+    private LocalDateCalendar calendar;
+    private long[] epochDays;
+
+    @Before
+    public void before() {
+
+        calendar = new LocalDateCalendar(endDate, "london", 365 * 4).removeWeekendDays()
+                .remove(of(2018, 12, 25)).remove(of(2018, 12, 26));
+        // Some days fall after the calendar range, they are reported as not included.
+        final Random random = new Random(17);
+        epochDays = new long[BatchQueries.MIN_SPLIT_DAYS * 5 + 3];
+        for (int index = 0; index < epochDays.length; index++)
+            epochDays[index] = endDate.toEpochDay() - random.nextInt(365 * 5) + 100;
+    }
+
+    @Test
+    public void containsAll_matchesIsIncluded() {
+
+        final boolean[] result = new boolean[epochDays.length];
+        final BitSet bits = new BitSet();
+        final int count = calendar.containsAll(epochDays, result);
+        assertThat(calendar.containsAll(epochDays, bits), is(count));
+        int expected = 0;
+        for (int index = 0; index < epochDays.length; index++) {
+            assertThat(result[index], is(calendar.isIncluded(epochDays[index])));
+            assertThat(bits.get(index), is(result[index]));
+            if (result[index])
+                expected++;
+        }
+        assertThat(count, is(expected));
+    }
+
+    @Test
+    public void containsAll_indexRange() {
+
+        final boolean[] result = new boolean[epochDays.length];
+        final long[] days = {of(2018, 12, 24).toEpochDay(), of(2018, 12, 25).toEpochDay(),
+                of(2018, 12, 27).toEpochDay(), of(2018, 12, 29).toEpochDay()};
+        assertThat(calendar.containsAll(days, 1, 3, result), is(1));
+        assertThat(result[0], is(false));
+        assertThat(result[1], is(false));
+        assertThat(result[2], is(true));
+        assertThat(result[3], is(false));
+    }
+
+    @Test
+    public void parallel_matchesSequential() {
+
+        final boolean[] expected = new boolean[epochDays.length];
+        final boolean[] result = new boolean[epochDays.length];
+        final int count = calendar.containsAll(epochDays, expected);
+        assertThat(BatchQueries.containsAll(new ForkJoinPool(4), calendar, epochDays, result), is(count));
+        assertThat(result, is(expected));
+        final boolean[] concurrent = new boolean[epochDays.length];
+        assertThat(BatchQueries.containsAll(new ConcurrentLocalDateCalendar(calendar), epochDays, concurrent),
+                is(count));
+        assertThat(concurrent, is(expected));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void containsAll_resultTooShort() {
+        calendar.containsAll(epochDays, new boolean[epochDays.length - 1]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void parallel_resultTooShort() {
+        BatchQueries.containsAll(calendar, epochDays, new boolean[epochDays.length - 1]);
+    }
+}
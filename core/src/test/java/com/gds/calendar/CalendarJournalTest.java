@@ -0,0 +1,180 @@
+package com.gds.calendar;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class CalendarJournalTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private final LocalDate endDate = of(2018, 12, 30);
+    private LocalDateCalendar calendar;
+    private Path directory;
+    private CalendarJournal journal;
+
+    @Before
+    public void before() {
+
+        calendar = new LocalDateCalendar(endDate, "london", 365 * 2);
+        directory = folder.getRoot().toPath().resolve("journal");
+    }
+
+    @After
+    public void after() {
+        if (journal != null)
+            journal.close();
+    }
+
+    @Test
+    public void load_replaysEveryChange() {
+
+        calendar.removeWeekendDays();
+        journal = CalendarJournal.open(directory, calendar, 64, 1024 * 1024);
+        final LocalDateCalendar holidays = LocalDateCalendar.emptyOver(endDate, "holidays", 30)
+                .addAll(Arrays.asList(of(2018, 12, 25), of(2018, 12, 26)));
+        calendar.remove(of(2018, 1, 1)).removeAll(Arrays.asList(of(2018, 3, 30), of(2018, 4, 2)))
+                .remove(holidays).add(of(2018, 12, 29))
+                .addAll(Arrays.asList(of(2018, 6, 2), of(2018, 6, 3)))
+                .remove(DayOfWeek.WEDNESDAY);
+        calendar.batch(working -> working.add(of(2018, 12, 26)).remove(of(2018, 5, 7)));
+        calendar.extendEndDate(of(2019, 2, 28)).extendStartDate(of(2016, 6, 1));
+        calendar.remove(of(2019, 1, 1));
+        journal.close();
+        assertSameCalendar(CalendarJournal.load(directory), calendar);
+    }
+
+    @Test
+    public void load_afterRestart() {
+
+        journal = CalendarJournal.open(directory, calendar);
+        calendar.removeWeekendDays().remove(of(2018, 12, 25));
+        journal.close();
+        final LocalDateCalendar restored = CalendarJournal.load(directory);
+        journal = CalendarJournal.open(directory, restored);
+        restored.remove(of(2018, 12, 26));
+        journal.close();
+        calendar.remove(of(2018, 12, 26));
+        assertSameCalendar(CalendarJournal.load(directory), calendar);
+    }
+
+    @Test
+    public void groupCommit() throws IOException {
+
+        journal = CalendarJournal.open(directory, calendar, 1024, 1024 * 1024);
+        final long empty = segmentSize();
+        calendar.remove(endDate).remove(endDate.minusDays(1));
+        assertThat(segmentSize(), is(empty));
+        journal.flush();
+        assertThat(segmentSize() > empty, is(true));
+        assertThat(CalendarJournal.load(directory).getAllDates().size(), is(365 * 2 - 2));
+    }
+
+    @Test
+    public void compaction() throws IOException {
+
+        journal = CalendarJournal.open(directory, calendar, 1, 256);
+        for (LocalDate date = endDate; date.isAfter(endDate.minusYears(1)); date = date.minusDays(1))
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY)
+                calendar.remove(date);
+        assertThat(segments().size(), is(1));
+        assertThat(segmentSize() < 256, is(true));
+        assertSameCalendar(CalendarJournal.load(directory), calendar);
+    }
+
+    @Test
+    public void load_tornRecord() throws IOException {
+
+        journal = CalendarJournal.open(directory, calendar, 1, 1024 * 1024);
+        calendar.remove(endDate).remove(endDate.minusDays(1));
+        final long size = segmentSize();
+        journal.close();
+        try (final FileChannel channel = FileChannel.open(segments().get(0), StandardOpenOption.WRITE)) {
+            channel.truncate(size - 1);
+        }
+        final LocalDateCalendar restored = CalendarJournal.load(directory);
+        assertThat(restored.getDay(endDate).isPresent(), is(false));
+        assertThat(restored.getDay(endDate.minusDays(1)).isPresent(), is(true));
+    }
+
+    @Test
+    public void close_unregistersFromCalendar() {
+
+        journal = CalendarJournal.open(directory, calendar);
+        journal.close();
+        calendar.remove(endDate);
+        assertThat(CalendarJournal.load(directory).getDay(endDate).isPresent(), is(true));
+    }
+
+    @Test
+    public void failedCompaction_stopsRecordingWithoutThrowing() throws IOException {
+
+        journal = CalendarJournal.open(directory, calendar, 1, 1);
+        final Path blocked = Files.createDirectory(directory.resolve(String.format("%016d.journal", 2)));
+        calendar.remove(endDate).remove(endDate.minusDays(1));
+        assertThat(journal.getFailure().isPresent(), is(true));
+        try {
+            journal.flush();
+            fail("A failed journal must report its failure.");
+        } catch (IllegalStateException e) {
+            assertThat(e.getCause(), is(journal.getFailure().get()));
+        }
+        Files.delete(blocked);
+        try {
+            journal.close();
+            fail("A failed journal must report its failure.");
+        } catch (IllegalStateException e) {
+            journal = null;
+        }
+        final LocalDateCalendar restored = CalendarJournal.load(directory);
+        assertThat(restored.getDay(endDate).isPresent(), is(false));
+        assertThat(restored.getDay(endDate.minusDays(1)).isPresent(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void load_noSnapshot() {
+        CalendarJournal.load(directory);
+    }
+
+    private void assertSameCalendar(final LocalDateCalendar actual, final LocalDateCalendar expected) {
+
+        assertThat(actual.getName(), is(expected.getName()));
+        assertThat(actual.getStartDate(), is(expected.getStartDate()));
+        assertThat(actual.getEndDate(), is(expected.getEndDate()));
+        assertThat(actual.getAllDates(), is(expected.getAllDates()));
+    }
+
+    private long segmentSize() throws IOException {
+        return Files.size(segments().get(0));
+    }
+
+    private List<Path> segments() throws IOException {
+
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".journal")).collect(Collectors.toList());
+        }
+    }
+}
@@ -5,10 +5,14 @@ import org.junit.Test;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 
+import static com.gds.calendar.CalendarChangeEvent.BATCH_APPLIED;
 import static com.gds.calendar.CalendarChangeEvent.CALENDAR_ADDED;
 import static com.gds.calendar.CalendarChangeEvent.CALENDAR_REMOVED;
+import static com.gds.calendar.CalendarChangeEvent.DATES_ADDED;
 import static com.gds.calendar.CalendarChangeEvent.DATES_REMOVED;
 import static com.gds.calendar.CalendarChangeEvent.DATE_ADDED;
 import static com.gds.calendar.CalendarChangeEvent.DATE_REMOVED;
@@ -155,6 +159,45 @@ public class CalendarListenerTest {
                 workCalendar, CALENDAR_ADDED);
     }
 
+    @Test
+    public void addCalendar_newDates() {
+
+        final LocalDateCalendar weekendCalendar
+                = new LocalDateCalendar(endDate, "weekendCalendar", 7).removeWeekDays();
+        final LocalDateCalendar workCalendar
+                = new LocalDateCalendar(endDate, "workCalendar", 21).removeWeekendDays();
+        workCalendar.register(eventContexts::add);
+        workCalendar.add(weekendCalendar);
+        assertThat(eventContexts.size(), is(2));
+        assertThis(eventContexts.get(0), "Collection of dates added to calendar.", workCalendar, DATES_ADDED,
+                LocalDate.of(2018, 12, 30), LocalDate.of(2018, 12, 29));
+        assertThis(eventContexts.get(1), "Calendar dates from weekendCalendar added to workCalendar.",
+                weekendCalendar, CALENDAR_ADDED);
+    }
+
+    @Test
+    public void addAll_callback() {
+
+        final LocalDate firstAddition = LocalDate.of(2017, 7, 5);
+        final LocalDate secondAddition = LocalDate.of(2018, 1, 1);
+        calendar.remove(firstAddition);
+        calendar.remove(secondAddition);
+        calendar.register(eventContexts::add);
+        calendar.addAll(Arrays.asList(secondAddition, firstAddition, LocalDate.of(2018, 1, 2)));
+
+        assertThat(eventContexts.size(), is(1));
+        assertThis(eventContexts.get(0), "Collection of dates added to calendar.", calendar,
+                DATES_ADDED, secondAddition, firstAddition);
+    }
+
+    @Test
+    public void addAll_callback_noNewDates() {
+
+        calendar.register(eventContexts::add);
+        calendar.addAll(Arrays.asList(LocalDate.of(2018, 1, 2)));
+        assertThat(eventContexts.size(), is(0));
+    }
+
     @Test
     public void removeCalendar() {
 
@@ -169,6 +212,95 @@ public class CalendarListenerTest {
                 holidayCalendar, CALENDAR_REMOVED);
     }
 
+    @Test
+    public void batch_singleNetEvent() {
+
+        final LocalDate christmas = LocalDate.of(2018, 12, 25);
+        final LocalDate boxingDay = LocalDate.of(2018, 12, 26);
+        calendar.remove(christmas).register(eventContexts::add);
+        calendar.batch(working -> working.removeWeekendDays().add(christmas).remove(boxingDay)
+                .add(LocalDate.of(2018, 12, 29)).remove(LocalDate.of(2018, 12, 29)));
+        assertThat(eventContexts.size(), is(1));
+        final ChangeEventContext context = eventContexts.get(0);
+        assertThat(context.getCalendarChangeEvent(), is(BATCH_APPLIED));
+        assertThat(context.getCalendar(), equalTo(calendar));
+        assertThat(context.getAddedDates(), equalTo(Arrays.asList(christmas)));
+        assertThat(context.getRemovedDates().size(),
+                is(new LocalDateCalendar(endDate, "weekend", duration).removeWeekDays().getAllDates().size() + 1));
+        assertThat(context.getRemovedDates().get(0), is(endDate));
+        assertThat(context.getRemovedDates().contains(boxingDay), is(true));
+        assertThat(context.getDates().get(0), is(christmas));
+        assertThat(calendar.getAllDates(), equalTo(new LocalDateCalendar(endDate, "expected", duration)
+                .removeWeekendDays().remove(boxingDay).getAllDates()));
+    }
+
+    @Test
+    public void batch_noNetChange() {
+
+        calendar.register(eventContexts::add);
+        calendar.batch(working -> working.remove(endDate).add(endDate));
+        assertThat(eventContexts.size(), is(0));
+    }
+
+    @Test
+    public void batch_rollsBackOnException() {
+
+        calendar.register(eventContexts::add);
+        try {
+            calendar.batch(working -> working.removeWeekendDays().remove(endDate));
+        } catch (IllegalArgumentException e) {
+        }
+        assertThat(eventContexts.size(), is(0));
+        assertThat(calendar.getAllDates().size(), is(duration));
+    }
+
+    @Test
+    public void register_typedSubscription() {
+
+        final List<ChangeEventContext> removals = new ArrayList<>();
+        calendar.register(eventContexts::add).register(removals::add, EnumSet.of(DATE_REMOVED, DATES_REMOVED));
+        calendar.remove(endDate).add(endDate).removeAll(Arrays.asList(endDate, endDate.minusDays(1)));
+        assertThat(eventContexts.size(), is(3));
+        assertThat(removals.size(), is(2));
+        assertThis(removals.get(0), "Date removed from calendar.", calendar, DATE_REMOVED, endDate);
+        assertThat(removals.get(1).getCalendarChangeEvent(), is(DATES_REMOVED));
+    }
+
+    @Test
+    public void register_typedSubscription_unsubscribedEventNotRaised() {
+
+        calendar.register(eventContexts::add, EnumSet.of(DATE_ADDED));
+        calendar.removeWeekendDays().batch(working -> working.add(endDate)).remove(endDate.minusDays(2));
+        assertThat(eventContexts.size(), is(0));
+        calendar.add(endDate.minusDays(2));
+        assertThis(eventContexts.get(0), "New date added to calendar.", calendar, DATE_ADDED, endDate.minusDays(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void register_typedSubscription_noEvents() {
+        calendar.register(eventContexts::add, EnumSet.noneOf(CalendarChangeEvent.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void batch_rangeChange() {
+        calendar.batch(working -> working.extendEndDate(endDate.plusDays(1)));
+    }
+
+    @Test
+    public void getCalendar_mutableCalendar() {
+
+        final LocalDateCalendar holidays = LocalDateCalendar.emptyOver(endDate, "holidays", duration);
+        calendar.register(context -> {
+            if (context.getCalendarChangeEvent() == DATE_REMOVED)
+                holidays.addAll(context.getDates());
+            eventContexts.add(context);
+        });
+        calendar.remove(endDate);
+        assertThat(eventContexts.get(0).getCalendar().getAllDates().size(), is(duration - 1));
+        assertThat(eventContexts.get(0).getCalendarView(), equalTo(calendar));
+        assertThat(holidays.getAllDates(), equalTo(Arrays.asList(endDate)));
+    }
+
     private void assertThis(final ChangeEventContext eventContext, final String message,
                             final LocalDateCalendar calendar, final CalendarChangeEvent changeEvent,
                             final LocalDate... dates) {
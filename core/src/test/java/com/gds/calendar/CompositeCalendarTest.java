@@ -0,0 +1,133 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.stream.Collectors;
+
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class CompositeCalendarTest {
+
+    private final LocalDate endDate = LocalDate.of(2018, 12, 30);
+    private LocalDateCalendar london;
+    private LocalDateCalendar newYork;
+    private LocalDateCalendar tokyo;
+
+    @Before
+    public void before() {
+
+        london = new LocalDateCalendar(endDate, "london", 365 * 2).removeWeekendDays()
+                .remove(of(2018, 12, 25)).remove(of(2018, 12, 26)).remove(of(2018, 8, 27));
+        newYork = new LocalDateCalendar(endDate.minusDays(10), "new york", 365 * 2).removeWeekendDays()
+                .remove(of(2018, 12, 14)).remove(of(2018, 11, 22)).remove(of(2018, 7, 4));
+        tokyo = new LocalDateCalendar(endDate.plusDays(10), "tokyo", 365).removeWeekendDays()
+                .remove(of(2018, 11, 23)).remove(of(2018, 12, 24));
+    }
+
+    @Test
+    public void allOf_matchesIntersection() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("joint", london, newYork, tokyo);
+        final LocalDateCalendar intersection = LocalDateCalendar.intersection(london, newYork, tokyo);
+        assertThat(composite.getName(), is("joint"));
+        assertThat(composite.getStartDate(), is(tokyo.getStartDate()));
+        assertThat(composite.getEndDate(), is(newYork.getEndDate()));
+        assertThat(composite.getAllDates(), equalTo(intersection.getAllDates()));
+        assertThat(composite.getDaysInMonth(Year.of(2018), Month.NOVEMBER),
+                equalTo(intersection.getDaysInMonth(Year.of(2018), Month.NOVEMBER)));
+    }
+
+    @Test
+    public void allOf_stream() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("joint", london, newYork, tokyo);
+        final LocalDateCalendar intersection = LocalDateCalendar.intersection(london, newYork, tokyo);
+        assertThat(composite.stream().parallel().collect(Collectors.toList()),
+                equalTo(intersection.stream(composite.getStartDate(), composite.getEndDate())
+                        .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void anyOf_matchesUnion() {
+
+        final CompositeCalendar composite = CompositeCalendar.anyOf("any", london, newYork, tokyo);
+        final LocalDateCalendar union = LocalDateCalendar.union(london, newYork, tokyo);
+        assertThat(composite.getStartDate(), is(union.getStartDate()));
+        assertThat(composite.getEndDate(), is(union.getEndDate()));
+        assertThat(composite.getAllDates(), equalTo(union.getAllDates()));
+    }
+
+    @Test
+    public void allOf_nextAndPreviousIncludedDay() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("joint", london, newYork, tokyo);
+        assertThat(composite.nextIncludedDay(of(2018, 11, 21)).get(), is(of(2018, 11, 26)));
+        assertThat(composite.previousIncludedDay(of(2018, 11, 26)).get(), is(of(2018, 11, 21)));
+        assertThat(composite.nextIncludedDay(of(2018, 12, 19)).get(), is(of(2018, 12, 20)));
+        assertThat(composite.nextIncludedDay(of(2018, 12, 20)).isPresent(), is(false));
+        assertThat(composite.previousIncludedDay(tokyo.getStartDate()).isPresent(), is(false));
+    }
+
+    @Test
+    public void allOf_countAndPlusIncludedDays() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("joint", london, newYork, tokyo);
+        final LocalDateCalendar intersection = LocalDateCalendar.intersection(london, newYork, tokyo);
+        final LocalDate from = of(2018, 3, 1);
+        for (LocalDate to = from; !to.isAfter(composite.getEndDate()); to = to.plusDays(13)) {
+            assertThat(composite.countIncludedDaysBetween(from, to),
+                    is(intersection.countIncludedDaysBetween(from, to)));
+            assertThat(composite.plusIncludedDays(to, 7), is(intersection.plusIncludedDays(to, 7)));
+            assertThat(composite.minusIncludedDays(to, 40), is(intersection.minusIncludedDays(to, 40)));
+        }
+        assertThat(composite.plusIncludedDays(of(2018, 11, 21), 1).get(), is(of(2018, 11, 26)));
+    }
+
+    @Test
+    public void allOf_memberChange() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("joint", london, newYork, tokyo);
+        assertThat(composite.countIncludedDaysBetween(of(2018, 10, 1), of(2018, 11, 1)), is(23));
+        london.remove(of(2018, 10, 8));
+        assertThat(composite.getDay(of(2018, 10, 8)).isPresent(), is(false));
+        assertThat(composite.countIncludedDaysBetween(of(2018, 10, 1), of(2018, 11, 1)), is(22));
+        assertThat(composite.plusIncludedDays(of(2018, 10, 5), 1).get(), is(of(2018, 10, 9)));
+    }
+
+    @Test
+    public void allOf_adjust() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("joint", london, newYork, tokyo);
+        assertThat(composite.adjust(of(2018, 11, 22), RollConvention.FOLLOWING).get(), is(of(2018, 11, 26)));
+        assertThat(composite.adjust(of(2018, 11, 22), RollConvention.PRECEDING).get(), is(of(2018, 11, 21)));
+    }
+
+    @Test
+    public void allOf_singleMember() {
+
+        final CompositeCalendar composite = CompositeCalendar.allOf("london", london);
+        assertThat(composite.getAllDates(), equalTo(london.getAllDates()));
+        assertThat(composite.isFirstDayInTheMonth(of(2018, 10, 1)), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void allOf_noOverlap() {
+        CompositeCalendar.allOf("joint", london, new LocalDateCalendar(of(2000, 1, 10), "earlier", 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void anyOf_noMembers() {
+        CompositeCalendar.anyOf("any");
+    }
+}
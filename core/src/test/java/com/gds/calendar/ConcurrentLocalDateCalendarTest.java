@@ -0,0 +1,226 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.gds.calendar.CalendarChangeEvent.DATES_REMOVED;
+import static com.gds.calendar.CalendarChangeEvent.DATE_ADDED;
+import static com.gds.calendar.CalendarChangeEvent.DATE_REMOVED;
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class ConcurrentLocalDateCalendarTest {
+
+    private final LocalDate endDate = of(2018, 12, 30);
+    private ConcurrentLocalDateCalendar calendar;
+
+    @Before
+    public void before() {
+        calendar = new ConcurrentLocalDateCalendar(endDate, "concurrent", 365 * 2);
+    }
+
+    @Test
+    public void readsMatchLocalDateCalendar() {
+
+        final LocalDateCalendar expected = new LocalDateCalendar(endDate, "concurrent", 365 * 2)
+                .removeWeekendDays().remove(of(2018, 12, 25));
+        calendar.removeWeekendDays().remove(of(2018, 12, 25));
+        assertThat(calendar.getName(), is("concurrent"));
+        assertThat(calendar.getAllDates(), equalTo(expected.getAllDates()));
+        assertThat(calendar.getDaysInMonth(Year.of(2018), Month.DECEMBER),
+                equalTo(expected.getDaysInMonth(Year.of(2018), Month.DECEMBER)));
+        assertThat(calendar.plusIncludedDays(of(2018, 12, 21), 2).get(), is(of(2018, 12, 26)));
+    }
+
+    @Test
+    public void copyOfCalendar_independent() {
+
+        final LocalDateCalendar source = new LocalDateCalendar(endDate, "source", 30);
+        calendar = new ConcurrentLocalDateCalendar(source);
+        source.remove(endDate);
+        assertThat(calendar.getDay(endDate).isPresent(), is(true));
+        calendar.remove(endDate.minusDays(1));
+        assertThat(source.getDay(endDate.minusDays(1)).isPresent(), is(true));
+        assertThat(calendar.toLocalDateCalendar().getAllDates().size(), is(29));
+    }
+
+    @Test
+    public void getAllDates_unaffectedByLaterWrites() {
+
+        final List<LocalDate> dates = calendar.getAllDates();
+        calendar.removeWeekendDays();
+        assertThat(dates.size(), is(365 * 2));
+        assertThat(calendar.getAllDates().size(), is(520));
+    }
+
+    @Test
+    public void listener_seesPublishedChange() {
+
+        final List<Boolean> included = new ArrayList<>();
+        final List<CalendarChangeEvent> events = new ArrayList<>();
+        calendar.remove(endDate).register(context -> {
+            events.add(context.getCalendarChangeEvent());
+            included.add(calendar.getDay(endDate).isPresent());
+        });
+        calendar.add(endDate);
+        assertThat(events.get(0), is(DATE_ADDED));
+        assertThat(included.get(0), is(true));
+    }
+
+    @Test
+    public void failedWrite_publishesAndDispatchesEarlierEvents() {
+
+        final List<CalendarChangeEvent> events = new ArrayList<>();
+        calendar.register(context -> events.add(context.getCalendarChangeEvent()));
+        try {
+            calendar.remove(endDate).remove(endDate);
+        } catch (IllegalArgumentException e) {
+        }
+        assertThat(events.size(), is(1));
+        assertThat(calendar.getDay(endDate).isPresent(), is(false));
+    }
+
+    @Test
+    public void batch_publishedAsOneChange() {
+
+        final List<ChangeEventContext> events = new ArrayList<>();
+        calendar.register(events::add);
+        calendar.batch(working -> working.removeWeekendDays().remove(endDate.minusDays(2)));
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getCalendarChangeEvent(), is(CalendarChangeEvent.BATCH_APPLIED));
+        assertThat(events.get(0).getCalendarView(), is(calendar));
+        assertThat(events.get(0).getRemovedDates().size(), is(365 * 2 - calendar.getAllDates().size()));
+        assertThat(calendar.getDay(endDate.minusDays(2)).isPresent(), is(false));
+        final LocalDateCalendar published = events.get(0).getCalendar();
+        assertThat(published.getAllDates(), equalTo(calendar.getAllDates()));
+        calendar.add(endDate.minusDays(2));
+        published.remove(endDate.minusDays(3));
+        assertThat(published.getDay(endDate.minusDays(2)).isPresent(), is(false));
+        assertThat(calendar.getDay(endDate.minusDays(3)).isPresent(), is(true));
+    }
+
+    @Test
+    public void register_typedSubscription() {
+
+        final List<CalendarChangeEvent> events = new ArrayList<>();
+        final List<CalendarChangeEvent> additions = new ArrayList<>();
+        calendar.register(context -> additions.add(context.getCalendarChangeEvent()), EnumSet.of(DATE_ADDED));
+        calendar.remove(endDate).add(endDate);
+        calendar.register(context -> events.add(context.getCalendarChangeEvent()));
+        calendar.remove(endDate).add(endDate);
+        assertThat(additions.size(), is(2));
+        assertThat(events.size(), is(2));
+        assertThat(events.get(0), is(DATE_REMOVED));
+    }
+
+    @Test
+    public void unregister() {
+
+        final List<ChangeEventContext> events = new ArrayList<>();
+        final LocalDateCalendarListener listener = events::add;
+        calendar.register(listener).remove(endDate);
+        assertThat(calendar.unregister(listener), is(true));
+        calendar.add(endDate);
+        assertThat(events.size(), is(1));
+        assertThat(calendar.unregister(listener), is(false));
+    }
+
+    @Test
+    public void concurrentReadersSeeConsistentSnapshots() throws Exception {
+
+        final List<LocalDate> weekends = new LocalDateCalendar(endDate, "weekends", 365 * 2).removeWeekDays()
+                .getAllDates();
+        final List<LocalDate> removals = new ArrayList<>(weekends);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Boolean>> readers = new ArrayList<>();
+        for (int reader = 0; reader < 3; reader++)
+            readers.add(executor.submit(() -> {
+                boolean consistent = true;
+                while (running.get()) {
+                    final int count = calendar.countIncludedDaysBetween(calendar.getStartDate(), endDate.plusDays(1));
+                    consistent &= count == 365 * 2 || count == 365 * 2 - weekends.size();
+                    final List<LocalDate> december = calendar.getDaysInMonth(Year.of(2018), Month.DECEMBER);
+                    consistent &= december.size() == 30 || december.size() == 20;
+                }
+                return consistent;
+            }));
+        final List<CalendarChangeEvent> events = new ArrayList<>();
+        calendar.register(context -> events.add(context.getCalendarChangeEvent()));
+        for (int iteration = 0; iteration < 200; iteration++)
+            calendar.removeAll(removals).addAll(weekends);
+        running.set(false);
+        for (final Future<Boolean> reader : readers)
+            assertThat(reader.get(10, TimeUnit.SECONDS), is(true));
+        executor.shutdown();
+        assertThat(events.get(0), is(DATES_REMOVED));
+        assertThat(calendar.getAllDates().size(), is(365 * 2));
+    }
+
+    @Test
+    public void slowListener_doesNotBlockWrites() throws Exception {
+
+        final CountDownLatch delivering = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<LocalDate> removed = new CopyOnWriteArrayList<>();
+        calendar.register(context -> {
+            delivering.countDown();
+            awaitQuietly(release);
+            removed.addAll(context.getDates());
+        }, EnumSet.of(DATE_REMOVED));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<?> first = executor.submit(() -> calendar.remove(endDate));
+        assertThat(delivering.await(10, TimeUnit.SECONDS), is(true));
+        calendar.remove(endDate.minusDays(1));
+        assertThat(calendar.getDay(endDate.minusDays(1)).isPresent(), is(false));
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(removed, is(Arrays.asList(endDate, endDate.minusDays(1))));
+    }
+
+    @Test
+    public void listenerWrite_deliveredAfterListenerReturns() {
+
+        final List<CalendarChangeEvent> events = new ArrayList<>();
+        calendar.register(context -> {
+            events.add(context.getCalendarChangeEvent());
+            if (context.getCalendarChangeEvent() == DATE_REMOVED)
+                calendar.add(endDate);
+            events.add(context.getCalendarChangeEvent());
+        });
+        calendar.remove(endDate);
+        assertThat(events, is(Arrays.asList(DATE_REMOVED, DATE_REMOVED, DATE_ADDED, DATE_ADDED)));
+        assertThat(calendar.getDay(endDate).isPresent(), is(true));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
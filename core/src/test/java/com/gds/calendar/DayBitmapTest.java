@@ -0,0 +1,98 @@
+package com.gds.calendar;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class DayBitmapTest {
+
+    private final long firstDay = LocalDate.of(2000, 1, 1).toEpochDay();
+    private final long lastDay = LocalDate.of(2019, 12, 31).toEpochDay();
+
+    @Test
+    public void holidayCalendar_sparseBlocks() {
+
+        final DayBitmap days = new DayBitmap(firstDay, lastDay);
+        for (int year = 2000; year < 2020; year++)
+            for (int month = 1; month <= 12; month++)
+                days.add(LocalDate.of(year, month, 1).toEpochDay());
+        assertThat(days.cardinality(), is(240));
+        assertThat(days.denseBlocks(), is(0));
+        assertThat(days.select(239), is(LocalDate.of(2019, 12, 1).toEpochDay()));
+        assertThat(days.rank(LocalDate.of(2001, 1, 2).toEpochDay()), is(13));
+        assertThat(days.next(LocalDate.of(2010, 5, 2).toEpochDay()), is(LocalDate.of(2010, 6, 1).toEpochDay()));
+    }
+
+    @Test
+    public void densityChanges_convertBlocks() {
+
+        final DayBitmap days = new DayBitmap(firstDay, firstDay + 511);
+        for (long day = firstDay; day < firstDay + 32; day++)
+            days.add(day);
+        assertThat(days.denseBlocks(), is(0));
+        days.add(firstDay + 32);
+        assertThat(days.denseBlocks(), is(1));
+        for (long day = firstDay; day < firstDay + 16; day++)
+            days.remove(day);
+        assertThat(days.denseBlocks(), is(1));
+        days.remove(firstDay + 16);
+        assertThat(days.denseBlocks(), is(0));
+        for (long day = firstDay; day < firstDay + 64; day++)
+            assertThat(days.contains(day), is(day > firstDay + 16 && day <= firstDay + 32));
+    }
+
+    @Test
+    public void fullCalendarEmptied_sparseBlocks() {
+
+        final DayBitmap days = new DayBitmap(firstDay, lastDay);
+        days.fill();
+        assertThat(days.denseBlocks() > 0, is(true));
+        for (final DayOfWeek dayOfWeek : DayOfWeek.values())
+            days.removeDayOfWeek(dayOfWeek);
+        assertThat(days.isEmpty(), is(true));
+        assertThat(days.denseBlocks(), is(0));
+    }
+
+    @Test
+    public void combine_choosesForm() {
+
+        final DayBitmap weekdays = new DayBitmap(firstDay, lastDay);
+        weekdays.fill();
+        weekdays.removeDayOfWeek(DayOfWeek.SATURDAY);
+        weekdays.removeDayOfWeek(DayOfWeek.SUNDAY);
+        final DayBitmap holidays = new DayBitmap(firstDay, lastDay);
+        holidays.add(LocalDate.of(2018, 12, 29).toEpochDay());
+        final DayBitmap both = DayBitmap.combine(firstDay, lastDay, (left, right) -> left & right, weekdays, holidays);
+        assertThat(both.cardinality(), is(0));
+        assertThat(both.denseBlocks(), is(0));
+        final DayBitmap either
+                = DayBitmap.combine(firstDay, lastDay, (left, right) -> left | right, weekdays, holidays);
+        assertThat(either.cardinality(), is(weekdays.cardinality() + 1));
+        assertThat(either.denseBlocks(), is(weekdays.denseBlocks()));
+    }
+
+    @Test
+    public void share_laterWritesCopyBlock() {
+
+        final DayBitmap days = new DayBitmap(firstDay, lastDay);
+        days.fill();
+        final DayBitmap shared = days.share();
+        days.remove(firstDay);
+        days.add(firstDay);
+        days.remove(lastDay);
+        days.removeDayOfWeek(DayOfWeek.SUNDAY);
+        assertThat(shared.cardinality(), is((int) (lastDay - firstDay + 1)));
+        assertThat(shared.contains(lastDay), is(true));
+        assertThat(shared.count(firstDay, lastDay), is((int) (lastDay - firstDay + 1)));
+        assertThat(days.contains(lastDay), is(false));
+        assertThat(days.share().cardinality(), is(days.cardinality()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class FrozenCalendarTest {
+
+    private final LocalDate endDate = of(2018, 12, 30);
+    private LocalDateCalendar calendar;
+    private FrozenCalendar frozen;
+
+    @Before
+    public void before() {
+        calendar = new LocalDateCalendar(endDate, "business", 365 * 2).removeWeekendDays();
+        frozen = calendar.freeze();
+    }
+
+    @Test
+    public void freeze_independentOfCalendar() {
+
+        calendar.remove(of(2018, 12, 25));
+        assertThat(frozen.getName(), is("business"));
+        assertThat(frozen.getDay(of(2018, 12, 25)).isPresent(), is(true));
+        assertThat(frozen.getAllDates().size(), is(520));
+        assertThat(calendar.getAllDates().size(), is(519));
+    }
+
+    @Test
+    public void withRemoved() {
+
+        final FrozenCalendar holidays = frozen.withRemoved(Arrays.asList(of(2018, 12, 25), of(2018, 12, 26)));
+        assertThat(holidays.getDaysInMonth(Year.of(2018), Month.DECEMBER).size(), is(18));
+        assertThat(holidays.plusIncludedDays(of(2018, 12, 24), 1).get(), is(of(2018, 12, 27)));
+        assertThat(frozen.getDaysInMonth(Year.of(2018), Month.DECEMBER).size(), is(20));
+        assertThat(frozen.plusIncludedDays(of(2018, 12, 24), 1).get(), is(of(2018, 12, 25)));
+    }
+
+    @Test
+    public void withAdded() {
+
+        final FrozenCalendar weekend = frozen.withAdded(of(2018, 12, 29)).withAdded(of(2017, 1, 1));
+        assertThat(weekend.getDay(of(2018, 12, 29)).isPresent(), is(true));
+        assertThat(weekend.countIncludedDaysBetween(frozen.getStartDate(), of(2017, 1, 2)), is(1));
+        assertThat(weekend.getAllDates().size(), is(522));
+        assertThat(frozen.getDay(of(2018, 12, 29)).isPresent(), is(false));
+    }
+
+    @Test
+    public void withAddedAndRemoved_matchesMutableCalendar() {
+
+        final FrozenCalendar derived = frozen.withRemoved(calendar.getDaysInMonth(Year.of(2017), Month.MARCH))
+                .withAdded(Arrays.asList(of(2017, 3, 4), of(2018, 6, 30)));
+        calendar.removeAll(calendar.getDaysInMonth(Year.of(2017), Month.MARCH))
+                .addAll(Arrays.asList(of(2017, 3, 4), of(2018, 6, 30)));
+        assertThat(derived.getAllDates(), equalTo(calendar.getAllDates()));
+    }
+
+    @Test
+    public void withNoChange_sameInstance() {
+
+        assertThat(frozen.withAdded(of(2018, 12, 24)), sameInstance(frozen));
+        assertThat(frozen.withRemoved(of(2018, 12, 29)), sameInstance(frozen));
+        assertThat(frozen.withRemoved(endDate.plusDays(10)), sameInstance(frozen));
+    }
+
+    @Test
+    public void toLocalDateCalendar_mutableCopy() {
+
+        final LocalDateCalendar copy = frozen.toLocalDateCalendar();
+        copy.remove(of(2018, 12, 24));
+        assertThat(copy.getAllDates().size(), is(519));
+        assertThat(frozen.getDay(of(2018, 12, 24)).isPresent(), is(true));
+    }
+
+    @Test
+    public void concurrentCalendar_freeze() {
+
+        final ConcurrentLocalDateCalendar concurrent = new ConcurrentLocalDateCalendar(calendar);
+        final FrozenCalendar snapshot = concurrent.freeze();
+        concurrent.remove(of(2018, 12, 24));
+        assertThat(snapshot.getDay(of(2018, 12, 24)).isPresent(), is(true));
+        assertThat(concurrent.freeze().getDay(of(2018, 12, 24)).isPresent(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withAdded_outsideCalendarRange() {
+        frozen.withAdded(endDate.plusDays(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withRemoved_nullDate() {
+        frozen.withRemoved(Arrays.asList(of(2018, 12, 24), null));
+    }
+}
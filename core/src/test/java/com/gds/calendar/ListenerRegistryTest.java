@@ -0,0 +1,90 @@
+package com.gds.calendar;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static com.gds.calendar.CalendarChangeEvent.DATE_ADDED;
+import static com.gds.calendar.CalendarChangeEvent.DATE_REMOVED;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class ListenerRegistryTest {
+
+    private final LocalDate endDate = LocalDate.of(2018, 12, 30);
+    private final LocalDateCalendar calendar = new LocalDateCalendar(endDate, "default", 365);
+    private final ListenerRegistry registry = new ListenerRegistry();
+    private final List<ChangeEventContext> eventContexts = new ArrayList<>();
+
+    @Test
+    public void unregister() {
+
+        final LocalDateCalendarListener listener = eventContexts::add;
+        registry.register(listener, EnumSet.of(DATE_REMOVED), false);
+        registry.register(listener, EnumSet.of(DATE_ADDED), false);
+        assertThat(registry.unregister(listener), is(true));
+        assertThat(registry.unregister(listener), is(false));
+        assertThat(registry.wants(DATE_REMOVED), is(false));
+        registry.fire(LocalDateCalendar.context(DATE_REMOVED, () -> null, calendar, endDate));
+        assertThat(eventContexts.size(), is(0));
+    }
+
+    @Test
+    public void unregister_duringDispatch() {
+
+        final LocalDateCalendarListener second = eventContexts::add;
+        registry.register(new LocalDateCalendarListener() {
+            @Override
+            public void event(final ChangeEventContext context) {
+
+                registry.unregister(this);
+                registry.register(second, EnumSet.of(DATE_REMOVED), false);
+            }
+        }, EnumSet.of(DATE_REMOVED), false);
+        registry.fire(LocalDateCalendar.context(DATE_REMOVED, () -> null, calendar, endDate));
+        assertThat(eventContexts.size(), is(0));
+        registry.fire(LocalDateCalendar.context(DATE_REMOVED, () -> null, calendar, endDate));
+        assertThat(eventContexts.size(), is(1));
+    }
+
+    @Test
+    public void weakListener_purgedOnceCollected() throws Exception {
+
+        LocalDateCalendarListener listener = eventContexts::add;
+        final WeakReference<LocalDateCalendarListener> reference = new WeakReference<>(listener);
+        registry.register(listener, EnumSet.of(DATE_REMOVED), true);
+        registry.fire(LocalDateCalendar.context(DATE_REMOVED, () -> null, calendar, endDate));
+        assertThat(eventContexts.size(), is(1));
+        listener = null;
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(reference.get() == null, is(true));
+        assertThat(registry.wants(DATE_REMOVED), is(true));
+        registry.fire(LocalDateCalendar.context(DATE_REMOVED, () -> null, calendar, endDate));
+        assertThat(eventContexts.size(), is(1));
+        assertThat(registry.wants(DATE_REMOVED), is(false));
+    }
+
+    @Test
+    public void weakListener_notifiedWhileReachable() {
+
+        final LocalDateCalendarListener listener = eventContexts::add;
+        calendar.registerWeakly(listener).remove(endDate);
+        System.gc();
+        calendar.add(endDate);
+        assertThat(eventContexts.size(), is(2));
+        assertThat(calendar.unregister(listener), is(true));
+        calendar.remove(endDate);
+        assertThat(eventContexts.size(), is(2));
+    }
+}
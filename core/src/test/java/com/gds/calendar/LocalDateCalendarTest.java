@@ -8,8 +8,11 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
 
 import static java.time.DayOfWeek.FRIDAY;
 import static java.time.DayOfWeek.MONDAY;
@@ -20,6 +23,7 @@ import static java.time.DayOfWeek.TUESDAY;
 import static java.time.DayOfWeek.WEDNESDAY;
 import static java.time.LocalDate.of;
 import static java.time.Month.AUGUST;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -55,6 +59,31 @@ public class LocalDateCalendarTest {
         assertThat(calendar.getStartDate(), is(endDate.minusDays(364)));
     }
 
+    @Test
+    public void emptyOver() {
+        calendar = LocalDateCalendar.emptyOver(endDate, "empty", duration);
+        assertThat(calendar.getName(), is("empty"));
+        assertThat(calendar.getStartDate(), is(endDate.minusDays(duration - 1)));
+        assertThat(calendar.getAllDates().size(), is(0));
+    }
+
+    @Test
+    public void of_dates() {
+        calendar = LocalDateCalendar.of(endDate, "holidays", duration,
+                Arrays.asList(of(2018, 12, 25), of(2017, 12, 25), of(2018, 12, 25)));
+        assertThat(calendar.getAllDates(), equalTo(Arrays.asList(of(2018, 12, 25), of(2017, 12, 25))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_dateOutsideCalendarRange() {
+        LocalDateCalendar.of(endDate, "holidays", duration, Arrays.asList(endDate.plusDays(1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_nullDates() {
+        LocalDateCalendar.of(endDate, "holidays", duration, null);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getLastDayOfMonthBefore_nullArgument() throws Exception {
         calendar.getLastDayOfMonthBefore(null);
@@ -167,6 +196,185 @@ public class LocalDateCalendarTest {
         assertThat(calendar.getDayBefore(calendar.getEndDate()).get(), equalTo(saturday));
     }
 
+    @Test
+    public void getDayBefore_earliestDate() {
+        calendar.remove(calendar.getStartDate());
+        assertThat(calendar.getDayBefore(calendar.getStartDate().plusDays(1)).isPresent(), is(false));
+    }
+
+    @Test
+    public void getDayBefore_beforeEpoch() {
+        calendar = new LocalDateCalendar(of(1970, 1, 3), "tester", 10).remove(of(1970, 1, 1));
+        assertThat(calendar.getDayBefore(of(1970, 1, 2)).get(), equalTo(of(1969, 12, 31)));
+        assertThat(calendar.getDayBefore(of(1969, 12, 26)).get(), equalTo(of(1969, 12, 25)));
+    }
+
+    @Test
+    public void nextIncludedDay_overWeekend() {
+        assertThat(weekdayCalendar.nextIncludedDay(of(2018, 12, 14)).get(), equalTo(of(2018, 12, 17)));
+        assertThat(weekdayCalendar.nextIncludedDay(of(2018, 12, 15)).get(), equalTo(of(2018, 12, 17)));
+        assertThat(weekdayCalendar.nextIncludedDay(endDate).isPresent(), is(false));
+    }
+
+    @Test
+    public void previousIncludedDay_overWeekend() {
+        assertThat(weekdayCalendar.previousIncludedDay(of(2018, 12, 17)).get(), equalTo(of(2018, 12, 14)));
+        assertThat(weekdayCalendar.previousIncludedDay(of(2018, 12, 16)).get(), equalTo(of(2018, 12, 14)));
+        assertThat(weekdayCalendar.previousIncludedDay(endDate.plusDays(10)).get(), equalTo(of(2018, 12, 28)));
+        assertThat(weekdayCalendar.previousIncludedDay(weekdayCalendar.getStartDate()).isPresent(), is(false));
+    }
+
+    @Test
+    public void plusIncludedDays_settlement() {
+        final LocalDate thursday = of(2018, 12, 13);
+        assertThat(weekdayCalendar.plusIncludedDays(thursday, 0).get(), equalTo(thursday));
+        assertThat(weekdayCalendar.plusIncludedDays(thursday, 1).get(), equalTo(of(2018, 12, 14)));
+        assertThat(weekdayCalendar.plusIncludedDays(thursday, 2).get(), equalTo(of(2018, 12, 17)));
+        assertThat(weekdayCalendar.plusIncludedDays(of(2018, 12, 15), 1).get(), equalTo(of(2018, 12, 17)));
+        assertThat(weekdayCalendar.plusIncludedDays(of(2018, 12, 15), 0).isPresent(), is(false));
+        assertThat(weekdayCalendar.plusIncludedDays(thursday, -2).get(), equalTo(of(2018, 12, 11)));
+        assertThat(weekdayCalendar.plusIncludedDays(thursday, 20).isPresent(), is(false));
+    }
+
+    @Test
+    public void minusIncludedDays_overWeekend() {
+        final LocalDate monday = of(2018, 12, 17);
+        assertThat(weekdayCalendar.minusIncludedDays(monday, 1).get(), equalTo(of(2018, 12, 14)));
+        assertThat(weekdayCalendar.minusIncludedDays(of(2018, 12, 16), 1).get(), equalTo(of(2018, 12, 14)));
+        assertThat(weekdayCalendar.minusIncludedDays(monday, -1).get(), equalTo(of(2018, 12, 18)));
+        assertThat(weekdayCalendar.minusIncludedDays(monday, Integer.MIN_VALUE).isPresent(), is(false));
+        assertThat(weekdayCalendar.minusIncludedDays(monday, duration).isPresent(), is(false));
+    }
+
+    @Test
+    public void countIncludedDaysBetween_weekdays() {
+        assertThat(weekdayCalendar.countIncludedDaysBetween(of(2018, 12, 10), of(2018, 12, 17)), is(5));
+        assertThat(weekdayCalendar.countIncludedDaysBetween(of(2018, 12, 17), of(2018, 12, 10)), is(-5));
+        assertThat(weekdayCalendar.countIncludedDaysBetween(of(2018, 12, 15), of(2018, 12, 17)), is(0));
+        assertThat(weekdayCalendar.countIncludedDaysBetween(of(2010, 1, 1), of(2020, 1, 1)),
+                is(weekdayCalendar.getAllDates().size()));
+    }
+
+    @Test
+    public void isIncluded_epochDay() {
+        assertThat(weekdayCalendar.isIncluded(of(2018, 12, 14).toEpochDay()), is(true));
+        assertThat(weekdayCalendar.isIncluded(of(2018, 12, 15).toEpochDay()), is(false));
+        assertThat(weekdayCalendar.isIncluded(endDate.plusDays(1).toEpochDay()), is(false));
+    }
+
+    @Test
+    public void nextAndPreviousIncluded_epochDay() {
+        final long saturday = of(2018, 12, 15).toEpochDay();
+        assertThat(weekdayCalendar.nextIncluded(saturday), is(of(2018, 12, 17).toEpochDay()));
+        assertThat(weekdayCalendar.previousIncluded(saturday), is(of(2018, 12, 14).toEpochDay()));
+        assertThat(weekdayCalendar.nextIncluded(endDate.toEpochDay()), is(LocalDateCalendar.NO_DAY));
+        assertThat(weekdayCalendar.previousIncluded(Long.MIN_VALUE), is(LocalDateCalendar.NO_DAY));
+    }
+
+    @Test
+    public void plusIncluded_epochDay() {
+        final long thursday = of(2018, 12, 13).toEpochDay();
+        assertThat(weekdayCalendar.plusIncluded(thursday, 2), is(of(2018, 12, 17).toEpochDay()));
+        assertThat(weekdayCalendar.plusIncluded(thursday, -4), is(of(2018, 12, 7).toEpochDay()));
+        assertThat(weekdayCalendar.plusIncluded(of(2018, 12, 15).toEpochDay(), 0), is(LocalDateCalendar.NO_DAY));
+        assertThat(weekdayCalendar.countIncludedBetween(thursday, thursday + 7), is(5));
+    }
+
+    @Test
+    public void includedDaysInRange_epochDay() {
+        final int[] sink = new int[10];
+        final long from = of(2018, 12, 8).toEpochDay();
+        assertThat(weekdayCalendar.includedDaysInRange(from, from + 7, sink), is(5));
+        assertThat(sink[0], is((int) of(2018, 12, 10).toEpochDay()));
+        assertThat(sink[4], is((int) of(2018, 12, 14).toEpochDay()));
+        assertThat(weekdayCalendar.includedDaysInRange(Long.MIN_VALUE, Long.MAX_VALUE, sink), is(sink.length));
+        assertThat(sink[0], is((int) weekdayCalendar.getAllDates().get(weekdayCalendar.getAllDates().size() - 1)
+                .toEpochDay()));
+        assertThat(weekdayCalendar.includedDaysInRange(from, from, sink), is(0));
+    }
+
+    @Test
+    public void adjust_includedDateUnchanged() {
+        final LocalDate friday = of(2018, 9, 28);
+        assertThat(weekdayCalendar.adjust(friday, RollConvention.FOLLOWING).get() == friday, is(true));
+        assertThat(weekdayCalendar.adjust(friday, RollConvention.MODIFIED_PRECEDING).get(), equalTo(friday));
+    }
+
+    @Test
+    public void adjust_following() {
+        final LocalDate saturday = of(2018, 9, 29);
+        assertThat(weekdayCalendar.adjust(saturday, RollConvention.FOLLOWING).get(), equalTo(of(2018, 10, 1)));
+        assertThat(weekdayCalendar.adjust(saturday, RollConvention.MODIFIED_FOLLOWING).get(),
+                equalTo(of(2018, 9, 28)));
+        assertThat(weekdayCalendar.adjust(endDate, RollConvention.FOLLOWING).isPresent(), is(false));
+    }
+
+    @Test
+    public void adjust_preceding() {
+        final LocalDate saturday = of(2018, 12, 1);
+        assertThat(weekdayCalendar.adjust(saturday, RollConvention.PRECEDING).get(), equalTo(of(2018, 11, 30)));
+        assertThat(weekdayCalendar.adjust(saturday, RollConvention.MODIFIED_PRECEDING).get(),
+                equalTo(of(2018, 12, 3)));
+    }
+
+    @Test
+    public void adjust_endOfMonth() {
+        assertThat(weekdayCalendar.adjust(of(2018, 9, 10), RollConvention.END_OF_MONTH).get(),
+                equalTo(of(2018, 9, 28)));
+        assertThat(weekendCalendar.adjust(of(2018, 9, 10), RollConvention.END_OF_MONTH).get(),
+                equalTo(of(2018, 9, 30)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void adjust_outsideCalendarRange() {
+        weekdayCalendar.adjust(endDate.plusDays(1), RollConvention.FOLLOWING);
+    }
+
+    @Test
+    public void adjustAll_inPlace() {
+        final LocalDate[] dates = {of(2018, 9, 28), of(2018, 9, 29), of(2018, 9, 30), of(2018, 10, 1)};
+        weekdayCalendar.adjustAll(dates, RollConvention.MODIFIED_FOLLOWING, dates);
+        assertThat(dates, equalTo(new LocalDate[]{of(2018, 9, 28), of(2018, 9, 28), of(2018, 9, 28),
+                of(2018, 10, 1)}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void adjustAll_cannotAdjust() {
+        weekdayCalendar.adjustAll(new LocalDate[]{endDate}, RollConvention.FOLLOWING, new LocalDate[1]);
+    }
+
+    @Test
+    public void yearFraction_dayCounts() {
+
+        final LocalDate start = of(2018, 1, 31);
+        final LocalDate end = of(2018, 7, 31);
+        assertThat(weekdayCalendar.yearFraction(start, end, DayCount.ACT_360), is(181 / 360d));
+        assertThat(weekdayCalendar.yearFraction(start, end, DayCount.ACT_365F), is(181 / 365d));
+        assertThat(weekdayCalendar.yearFraction(start, end, DayCount.THIRTY_360), is(0.5));
+        assertThat(weekdayCalendar.yearFraction(of(2018, 2, 28), of(2018, 3, 31), DayCount.THIRTY_360),
+                is(33 / 360d));
+        assertThat(weekdayCalendar.yearFraction(start, end, DayCount.BUSINESS_252), is(129 / 252d));
+        assertThat(weekdayCalendar.yearFraction(end, start, DayCount.BUSINESS_252), is(-129 / 252d));
+    }
+
+    @Test
+    public void yearFractions_schedule() {
+
+        final LocalDate[] schedule = {of(2017, 12, 29), of(2018, 3, 29), of(2018, 6, 29), of(2018, 9, 28),
+                of(2018, 12, 28)};
+        final double[] fractions = new double[schedule.length - 1];
+        weekdayCalendar.yearFractions(schedule, DayCount.BUSINESS_252, fractions);
+        for (int index = 0; index < fractions.length; index++)
+            assertThat(fractions[index], is(weekdayCalendar.countIncludedDaysBetween(schedule[index],
+                    schedule[index + 1]) / 252d));
+        assertThat(fractions[0], is(64 / 252d));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void yearFraction_outsideCalendarRange() {
+        weekdayCalendar.yearFraction(of(2018, 1, 1), endDate.plusDays(1), DayCount.ACT_360);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getDay_nullArgument() {
         calendar.getDay(null);
@@ -385,6 +593,33 @@ public class LocalDateCalendarTest {
         assertThat(allDatesBefore, equalTo(allDatesAfter));
     }
 
+    @Test
+    public void remove_calendar_widerRange() {
+
+        final LocalDateCalendar narrow = new LocalDateCalendar(endDate, "narrow", 30);
+        final LocalDateCalendar wide = LocalDateCalendar.emptyOver(endDate.plusDays(2000), "wide", 5000)
+                .add(endDate.minusDays(3)).add(endDate.plusDays(1)).add(endDate.minusDays(30));
+        narrow.remove(wide);
+        assertThat(narrow.getAllDates().size(), is(29));
+        assertThat(narrow.getDay(endDate.minusDays(3)).isPresent(), is(false));
+        narrow.remove(new LocalDateCalendar(endDate.plusDays(2000), "full", 5000));
+        assertThat(narrow.getAllDates().isEmpty(), is(true));
+    }
+
+    @Test
+    public void remove_calendar_events() {
+
+        final List<ChangeEventContext> events = new ArrayList<>();
+        final LocalDateCalendar holidays = LocalDateCalendar.emptyOver(endDate, "holidays", 30)
+                .add(endDate.minusDays(20)).add(endDate.minusDays(10)).add(endDate.minusDays(2));
+        calendar.remove(endDate.minusDays(10)).register(events::add).remove(holidays);
+        assertThat(events.size(), is(3));
+        assertThat(events.get(0).getCalendarChangeEvent(), is(CalendarChangeEvent.DATE_REMOVED));
+        assertThat(events.get(0).getDates(), equalTo(Collections.singletonList(endDate.minusDays(2))));
+        assertThat(events.get(1).getDates(), equalTo(Collections.singletonList(endDate.minusDays(20))));
+        assertThat(events.get(2).getCalendarChangeEvent(), is(CalendarChangeEvent.CALENDAR_REMOVED));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void add_calendar_null() {
         final LocalDateCalendar localDateCalendar = null;
@@ -441,6 +676,50 @@ public class LocalDateCalendarTest {
         calendar.add(date);
     }
 
+    @Test
+    public void addAll_dates() {
+
+        calendar = LocalDateCalendar.emptyOver(endDate, "tester", duration);
+        calendar.addAll(Arrays.asList(of(2018, 1, 1), of(2017, 1, 1), of(2018, 1, 1)));
+        assertThat(calendar.getAllDates(), equalTo(Arrays.asList(of(2018, 1, 1), of(2017, 1, 1))));
+    }
+
+    @Test
+    public void addAll_someOutsideRange() {
+
+        calendar = LocalDateCalendar.emptyOver(endDate, "tester", duration);
+        try {
+            calendar.addAll(Arrays.asList(of(2018, 1, 1), endDate.plusDays(1)));
+        } catch (IllegalArgumentException e) {
+            assertThat(calendar.getAllDates().size(), is(0));
+            return;
+        }
+        throw new AssertionError("Expected an IllegalArgumentException.");
+    }
+
+    @Test
+    public void add_calendar_merge() {
+
+        weekdayCalendar.add(weekendCalendar);
+        assertThat(weekdayCalendar.getAllDates(), equalTo(calendar.getAllDates()));
+    }
+
+    @Test
+    public void add_calendar_widerRange() {
+
+        final LocalDateCalendar narrow = LocalDateCalendar.emptyOver(endDate, "narrow", 30);
+        final LocalDateCalendar wide = LocalDateCalendar.emptyOver(endDate.plusDays(2000), "wide", 5000)
+                .add(endDate.minusDays(3));
+        narrow.add(wide);
+        assertThat(narrow.getAllDates(), equalTo(Collections.singletonList(endDate.minusDays(3))));
+        assertThat(narrow.countIncludedDaysBetween(narrow.getStartDate(), endDate.plusDays(1)), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_calendar_outsideRange() {
+        calendar.add(new LocalDateCalendar(endDate.plusDays(1), "later", 7));
+    }
+
     @Test
     public void add_date_toEmpty_addStartDate() {
 
@@ -534,6 +813,96 @@ public class LocalDateCalendarTest {
         assertThat(calendar.getAllDates().size(), is(7));
     }
 
+    @Test
+    public void add_dates_orderPreserved() {
+
+        final LocalDate endDate = of(2020, 9, 13);
+        calendar = new LocalDateCalendar(endDate, "tester", 7);
+        calendar.removeWeekendDays().removeWeekDays();
+        calendar.add(of(2020, 9, 9)).add(of(2020, 9, 12)).add(of(2020, 9, 7));
+
+        assertThat(calendar.getAllDates(), equalTo(Arrays.asList(of(2020, 9, 12), of(2020, 9, 9), of(2020, 9, 7))));
+    }
+
+    @Test
+    public void getAllDates_positionalAccess() {
+
+        final List<LocalDate> expected = new ArrayList<>();
+        for (LocalDate date = endDate; !date.isBefore(weekdayCalendar.getStartDate()); date = date.minusDays(1))
+            if (date.getDayOfWeek() != SATURDAY && date.getDayOfWeek() != SUNDAY)
+                expected.add(date);
+        final List<LocalDate> allDates = weekdayCalendar.getAllDates();
+
+        assertThat(allDates.size(), is(expected.size()));
+        for (int index = 0; index < expected.size(); index++) {
+            assertThat(allDates.get(index), equalTo(expected.get(index)));
+            assertThat(allDates.indexOf(expected.get(index)), is(index));
+        }
+        assertThat(allDates.indexOf(of(2017, 9, 16)), is(-1));
+    }
+
+    @Test
+    public void getAllDates_liveView() {
+
+        final List<LocalDate> allDates = calendar.getAllDates();
+        calendar.remove(calendar.getEndDate());
+        assertThat(allDates.size(), is(duration - 1));
+        assertThat(allDates.get(0), equalTo(endDate.minusDays(1)));
+    }
+
+    @Test
+    public void union_calendars() {
+
+        final LocalDateCalendar union = LocalDateCalendar.union(weekdayCalendar, weekendCalendar);
+        assertThat(union.getName(), is("weekday | weekend"));
+        assertThat(union.getAllDates(), equalTo(calendar.getAllDates()));
+    }
+
+    @Test
+    public void union_differentRanges() {
+
+        final LocalDateCalendar earlier = new LocalDateCalendar(of(2000, 1, 10), "earlier", 10);
+        final LocalDateCalendar union = LocalDateCalendar.union(earlier, weekendCalendar);
+        assertThat(union.getStartDate(), is(earlier.getStartDate()));
+        assertThat(union.getEndDate(), is(endDate));
+        assertThat(union.getAllDates().size(), is(earlier.getAllDates().size() + weekendCalendar.getAllDates().size()));
+        assertThat(union.getDay(of(2000, 1, 5)).isPresent(), is(true));
+        assertThat(union.getDay(of(2000, 1, 11)).isPresent(), is(false));
+    }
+
+    @Test
+    public void intersection_calendars() {
+
+        final LocalDateCalendar intersection = LocalDateCalendar.intersection(calendar, weekdayCalendar);
+        assertThat(intersection.getAllDates(), equalTo(weekdayCalendar.getAllDates()));
+        assertThat(LocalDateCalendar.intersection(weekdayCalendar, weekendCalendar).getAllDates().size(), is(0));
+    }
+
+    @Test
+    public void difference_calendars() {
+
+        final LocalDateCalendar later = new LocalDateCalendar(endDate.plusDays(100), "later", duration);
+        final LocalDateCalendar difference = LocalDateCalendar.difference(calendar, weekendCalendar, later);
+        assertThat(difference.getStartDate(), is(calendar.getStartDate()));
+        assertThat(difference.getEndDate(), is(endDate));
+        assertThat(difference.getAllDates().get(0),
+                equalTo(weekdayCalendar.previousIncludedDay(later.getStartDate()).get()));
+        assertThat(difference.getAllDates().size(),
+                is(weekdayCalendar.countIncludedDaysBetween(calendar.getStartDate(), later.getStartDate())));
+    }
+
+    @Test
+    public void symmetricDifference_calendars() {
+
+        final LocalDateCalendar symmetricDifference = LocalDateCalendar.symmetricDifference(calendar, weekdayCalendar);
+        assertThat(symmetricDifference.getAllDates(), equalTo(weekendCalendar.getAllDates()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void union_noCalendars() {
+        LocalDateCalendar.union();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getDatesForDayOfWeek_null() {
         calendar.getDatesForDaysOfWeek(null);
@@ -653,6 +1022,38 @@ public class LocalDateCalendarTest {
         assertThat(days.size(), is(23));
     }
 
+    @Test
+    public void getDaysInMonth_plusYear_liveView(){
+        final List<LocalDate> days = calendar.getDaysInMonth(Year.of(2017), Month.AUGUST);
+        assertThat(days.get(0), is(of(2017, 8, 31)));
+        assertThat(days.get(30), is(of(2017, 8, 1)));
+        calendar.remove(of(2017, 8, 31)).remove(of(2017, 9, 1));
+        assertThat(days.size(), is(30));
+        assertThat(days.get(0), is(of(2017, 8, 30)));
+        assertThat(days.indexOf(of(2017, 8, 1)), is(29));
+    }
+
+    @Test
+    public void getDaysInMonth_plusYear_partialMonth(){
+        final List<LocalDate> first = calendar.getDaysInMonth(Year.of(2016), Month.DECEMBER);
+        assertThat(first.size(), is(1));
+        assertThat(first.get(0), is(calendar.getStartDate()));
+        assertThat(calendar.getDaysInMonth(Year.of(2018), Month.DECEMBER).get(0), is(endDate));
+        assertThat(calendar.getDaysInYear(Year.of(2019)).size(), is(0));
+        assertThat(calendar.getDaysInYear(Year.of(2016)).size(), is(1));
+        assertThat(calendar.getDaysInYear(Year.of(2018)).size(), is(364));
+    }
+
+    @Test
+    public void getFirstDayOfTheMonth_emptyMonth(){
+        calendar.removeAll(calendar.getDaysInMonth(Year.of(2018), Month.MARCH).stream().collect(toList()));
+        assertThat(calendar.getFirstDayOfTheMonth(Year.of(2018), Month.MARCH).isPresent(), is(false));
+        assertThat(calendar.getFirstDayOfTheMonth(Year.of(2010), Month.MARCH).isPresent(), is(false));
+        assertThat(calendar.getLastDayOfMonthBefore(of(2018, 4, 15)).isPresent(), is(false));
+        assertThat(calendar.getLastDayOfMonthBefore(of(2018, 4, 15), 2).get(), is(of(2018, 2, 28)));
+        assertThat(calendar.getLastDayOfMonthBefore(of(2018, 4, 15), 40).isPresent(), is(false));
+    }
+
     @Test
     public void getDaysInMonth_plusYear_outsideCalendarRange(){
         final List<LocalDate> days = calendar.getDaysInMonth(Year.of(2010), Month.AUGUST);
@@ -715,4 +1116,117 @@ public class LocalDateCalendarTest {
         assertThat(calendar.isDayOfTheMonth(of(2018,1,2), 2), is(false));
         assertThat(calendar.isDayOfTheMonth(of(2018,1,2), 3), is(false));
     }
+
+    @Test
+    public void extendEndDate_matchesRebuiltCalendar() {
+
+        weekdayCalendar.remove(of(2018, 12, 25));
+        LocalDate end = endDate;
+        for (final int days : new int[]{1, 6, 64, 365, 512, 3000}) {
+            end = end.plusDays(days);
+            weekdayCalendar.extendEndDate(end, DayRule.weekdays());
+            final int period = (int) (end.toEpochDay() - weekdayCalendar.getStartDate().toEpochDay() + 1);
+            final LocalDateCalendar expected = new LocalDateCalendar(end, "expected", period).removeWeekendDays()
+                    .remove(of(2018, 12, 25));
+            assertThat(weekdayCalendar.getEndDate(), is(end));
+            assertThat(weekdayCalendar.getAllDates(), equalTo(expected.getAllDates()));
+            assertThat(weekdayCalendar.getDaysInYear(Year.of(2019)), equalTo(expected.getDaysInYear(Year.of(2019))));
+            assertThat(weekdayCalendar.plusIncludedDays(of(2018, 12, 24), 200),
+                    is(expected.plusIncludedDays(of(2018, 12, 24), 200)));
+        }
+    }
+
+    @Test
+    public void extendStartDate_matchesRebuiltCalendar() {
+
+        LocalDate start = weekendCalendar.getStartDate();
+        for (final int days : new int[]{1, 63, 100, 1000}) {
+            start = start.minusDays(days);
+            weekendCalendar.extendStartDate(start, date -> date.getDayOfWeek().getValue() >= 6);
+            final int period = (int) (endDate.toEpochDay() - start.toEpochDay() + 1);
+            final LocalDateCalendar expected = new LocalDateCalendar(endDate, "expected", period).removeWeekDays();
+            assertThat(weekendCalendar.getStartDate(), is(start));
+            assertThat(weekendCalendar.getAllDates(), equalTo(expected.getAllDates()));
+            assertThat(weekendCalendar.getFirstDayOfTheMonth(Year.of(start.getYear() + 1), Month.MARCH),
+                    is(expected.getFirstDayOfTheMonth(Year.of(start.getYear() + 1), Month.MARCH)));
+            assertThat(weekendCalendar.minusIncludedDays(endDate, 150), is(expected.minusIncludedDays(endDate, 150)));
+        }
+    }
+
+    @Test
+    public void extendEndDate_singleEvent() {
+
+        final List<ChangeEventContext> eventContexts = new ArrayList<>();
+        calendar.register(eventContexts::add);
+        calendar.extendEndDate(endDate.plusDays(2)).extendEndDate(endDate.plusDays(2));
+        assertThat(eventContexts.size(), is(1));
+        assertThat(eventContexts.get(0).getCalendarChangeEvent(), is(CalendarChangeEvent.RANGE_CHANGED));
+        assertThat(eventContexts.get(0).getDates(), equalTo(Arrays.asList(endDate.plusDays(2), endDate.plusDays(1))));
+        assertThat(calendar.getDay(endDate.plusDays(2)).isPresent(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void extendEndDate_beforeEndDate() {
+        calendar.extendEndDate(endDate.minusDays(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void extendStartDate_afterStartDate() {
+        calendar.extendStartDate(calendar.getStartDate().plusDays(1));
+    }
+
+    @Test
+    public void stream_ascendingRange() {
+
+        final List<LocalDate> expected
+                = new ArrayList<>(weekdayCalendar.getDaysBetween(of(2018, 3, 1), of(2018, 5, 31)));
+        Collections.reverse(expected);
+        assertThat(weekdayCalendar.stream(of(2018, 3, 1), of(2018, 5, 31)).collect(toList()), equalTo(expected));
+        assertThat(weekdayCalendar.stream(of(2019, 1, 1), of(2019, 5, 31)).count(), is(0L));
+        assertThat(weekdayCalendar.stream().count(), is((long) weekdayCalendar.getAllDates().size()));
+    }
+
+    @Test
+    public void stream_parallel() {
+
+        calendar = new LocalDateCalendar(endDate, "long", 365 * 40).removeWeekendDays();
+        final List<LocalDate> expected = new ArrayList<>(calendar.getAllDates());
+        Collections.reverse(expected);
+        assertThat(calendar.stream().parallel().collect(toList()), equalTo(expected));
+        assertThat(calendar.stream().parallel().mapToLong(LocalDate::toEpochDay).sum(),
+                is(expected.stream().mapToLong(LocalDate::toEpochDay).sum()));
+    }
+
+    @Test
+    public void spliterator_splitsEvenlyByRange() {
+
+        calendar = new LocalDateCalendar(endDate, "long", 365 * 40);
+        final Spliterator<LocalDate> suffix = calendar.spliterator();
+        final Spliterator<LocalDate> prefix = suffix.trySplit();
+        assertThat(prefix.estimateSize() + suffix.estimateSize(), is(365L * 40));
+        // The split falls on the word boundary below the middle day.
+        assertThat(Math.abs(prefix.estimateSize() - suffix.estimateSize()) < 128, is(true));
+        assertThat(suffix.hasCharacteristics(Spliterator.SORTED | Spliterator.SUBSIZED), is(true));
+    }
+
+    @Test
+    public void forEachIncluded() {
+
+        final List<LocalDate> dates = new ArrayList<>();
+        weekendCalendar.forEachIncluded(of(2018, 12, 1), of(2018, 12, 9), dates::add);
+        assertThat(dates, equalTo(Arrays.asList(of(2018, 12, 1), of(2018, 12, 2), of(2018, 12, 8), of(2018, 12, 9))));
+        final int[] count = new int[1];
+        weekendCalendar.forEachIncluded(of(2018, 12, 1).toEpochDay(), of(2018, 12, 9).toEpochDay(), day -> count[0]++);
+        assertThat(count[0], is(3));
+    }
+
+    @Test
+    public void getDaysBetween_liveView() {
+
+        final List<LocalDate> december = weekdayCalendar.getDaysBetween(of(2018, 12, 1), of(2019, 1, 31));
+        assertThat(december.size(), is(20));
+        weekdayCalendar.remove(of(2018, 12, 25));
+        assertThat(december.size(), is(19));
+        assertThat(december.get(0), is(of(2018, 12, 28)));
+    }
 }
\ No newline at end of file
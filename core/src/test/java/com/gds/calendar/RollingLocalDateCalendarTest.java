@@ -0,0 +1,118 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.gds.calendar.CalendarChangeEvent.DATES_ADDED;
+import static com.gds.calendar.CalendarChangeEvent.DATES_EVICTED;
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class RollingLocalDateCalendarTest {
+
+    private final LocalDate endDate = of(2018, 12, 30);
+    private final int duration = 365;
+    private RollingLocalDateCalendar calendar;
+    private final List<ChangeEventContext> eventContexts = new ArrayList<>();
+
+    @Before
+    public void before() {
+        eventContexts.clear();
+        calendar = new RollingLocalDateCalendar(endDate, "rolling", duration, DayRule.weekdays());
+    }
+
+    @Test
+    public void construct_matchesLocalDateCalendar() {
+
+        final LocalDateCalendar expected = new LocalDateCalendar(endDate, "expected", duration).removeWeekendDays();
+        assertThat(calendar.getName(), is("rolling"));
+        assertThat(calendar.getStartDate(), is(expected.getStartDate()));
+        assertThat(calendar.getAllDates(), equalTo(expected.getAllDates()));
+    }
+
+    @Test
+    public void advanceTo_matchesRebuiltCalendar() {
+
+        LocalDate end = endDate;
+        for (final int days : new int[]{1, 1, 2, 7, 30, 64, 200, 365, 400, 3}) {
+            end = end.plusDays(days);
+            calendar.advanceTo(end);
+            final LocalDateCalendar expected = new LocalDateCalendar(end, "expected", duration).removeWeekendDays();
+            assertThat(calendar.getStartDate(), is(expected.getStartDate()));
+            assertThat(calendar.getEndDate(), is(end));
+            assertThat(calendar.getAllDates(), equalTo(expected.getAllDates()));
+            assertThat(calendar.countIncludedDaysBetween(expected.getStartDate(), end.plusDays(1)),
+                    is(expected.getAllDates().size()));
+            assertThat(calendar.plusIncludedDays(expected.getStartDate(), 100),
+                    is(expected.plusIncludedDays(expected.getStartDate(), 100)));
+            assertThat(calendar.minusIncludedDays(end, 37), is(expected.minusIncludedDays(end, 37)));
+        }
+    }
+
+    @Test
+    public void advanceTo_events() {
+
+        calendar.register(eventContexts::add);
+        calendar.advanceTo(of(2019, 1, 1));
+        assertThat(eventContexts.size(), is(2));
+        assertThat(eventContexts.get(0).getCalendarChangeEvent(), is(DATES_EVICTED));
+        assertThat(eventContexts.get(0).getDates(), equalTo(Arrays.asList(of(2018, 1, 1))));
+        assertThat(eventContexts.get(0).getCalendarView(), equalTo(calendar));
+        assertThat(eventContexts.get(1).getCalendarChangeEvent(), is(DATES_ADDED));
+        assertThat(eventContexts.get(1).getDates(), equalTo(Arrays.asList(of(2019, 1, 1), of(2018, 12, 31))));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void event_getCalendarFailsFast() {
+
+        calendar.register(eventContexts::add);
+        calendar.advanceTo(of(2019, 1, 1));
+        eventContexts.get(0).getCalendar();
+    }
+
+    @Test
+    public void advanceTo_noIncludedDays_noEvents() {
+
+        calendar = new RollingLocalDateCalendar(of(2018, 12, 28), "rolling", 7, DayRule.weekdays());
+        calendar.register(eventContexts::add);
+        calendar.advanceTo(of(2018, 12, 28)).advanceTo(of(2018, 12, 30));
+        assertThat(eventContexts.size(), is(0));
+    }
+
+    @Test
+    public void addAndRemove_keptUntilEvicted() {
+
+        calendar.add(of(2018, 12, 29)).remove(of(2018, 12, 28));
+        calendar.advanceTo(of(2018, 12, 31));
+        assertThat(calendar.getDay(of(2018, 12, 29)).isPresent(), is(true));
+        assertThat(calendar.getDay(of(2018, 12, 28)).isPresent(), is(false));
+        calendar.advanceTo(of(2019, 12, 31));
+        assertThat(calendar.getAllDates().size(), is(261));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void advanceTo_backwards() {
+        calendar.advanceTo(endDate.minusDays(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void create_periodTooLong() {
+        new RollingLocalDateCalendar(endDate, "rolling", Integer.MAX_VALUE, DayRule.weekdays());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_outsideWindow() {
+        calendar.add(calendar.getStartDate().minusDays(1));
+    }
+}
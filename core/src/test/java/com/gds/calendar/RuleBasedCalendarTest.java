@@ -0,0 +1,154 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.LocalDate.of;
+import static java.time.Month.AUGUST;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.FEBRUARY;
+import static java.time.Month.JANUARY;
+import static java.time.Month.MAY;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class RuleBasedCalendarTest {
+
+    private final LocalDate endDate = of(2019, 12, 31);
+    private final int duration = 365 * 2;
+    private RuleBasedCalendar calendar;
+
+    @Before
+    public void before() {
+        calendar = new RuleBasedCalendar("england", DayRule.weekdays(),
+                HolidayRule.fixed(JANUARY, 1).rolledToNextWeekday(),
+                HolidayRule.easterRelative(-2),
+                HolidayRule.easterRelative(1),
+                HolidayRule.nthDayOfWeek(1, MONDAY, MAY),
+                HolidayRule.nthDayOfWeek(-1, MONDAY, MAY),
+                HolidayRule.nthDayOfWeek(-1, MONDAY, AUGUST),
+                HolidayRule.allOf(HolidayRule.fixed(DECEMBER, 25), HolidayRule.fixed(DECEMBER, 26))
+                        .rolledToNextWeekday());
+    }
+
+    @Test
+    public void holidays() {
+
+        final LocalDateCalendar expected = new LocalDateCalendar(endDate, "expected", duration).removeWeekendDays()
+                .removeAll(Arrays.asList(of(2018, 1, 1), of(2018, 3, 30), of(2018, 4, 2), of(2018, 5, 7),
+                        of(2018, 5, 28), of(2018, 8, 27), of(2018, 12, 25), of(2018, 12, 26), of(2019, 1, 1),
+                        of(2019, 4, 19), of(2019, 4, 22), of(2019, 5, 6), of(2019, 5, 27), of(2019, 8, 26),
+                        of(2019, 12, 25), of(2019, 12, 26)));
+        assertThat(calendar.getDaysBetween(expected.getStartDate(), endDate), equalTo(expected.getAllDates()));
+        assertThat(calendar.toLocalDateCalendar(endDate, duration).getAllDates(), equalTo(expected.getAllDates()));
+    }
+
+    @Test
+    public void queries_matchExpandedCalendar() {
+
+        final LocalDateCalendar expected = calendar.toLocalDateCalendar(endDate, duration);
+        for (int offset = 0; offset < duration; offset += 13) {
+            final LocalDate date = of(2018, 1, 1).plusDays(offset);
+            assertThat(calendar.nextIncludedDay(date), is(expected.nextIncludedDay(date)));
+            assertThat(calendar.previousIncludedDay(date).isPresent(), is(true));
+            assertThat(calendar.countIncludedDaysBetween(of(2018, 1, 1), date),
+                    is(expected.countIncludedDaysBetween(of(2018, 1, 1), date)));
+            expected.plusIncludedDays(date, 300)
+                    .ifPresent(day -> assertThat(calendar.plusIncludedDays(date, 300), is(Optional.of(day))));
+            expected.minusIncludedDays(date, 300)
+                    .ifPresent(day -> assertThat(calendar.minusIncludedDays(date, 300), is(Optional.of(day))));
+        }
+    }
+
+    @Test
+    public void easter() {
+
+        final RuleBasedCalendar easterSundays = new RuleBasedCalendar("easter", DayRule.allDays(),
+                HolidayRule.easterRelative(0));
+        for (final LocalDate easter : Arrays.asList(of(1700, 4, 11), of(2000, 4, 23), of(2018, 4, 1),
+                of(2019, 4, 21), of(2038, 4, 25), of(2285, 3, 22)))
+            assertThat(easterSundays.getDay(easter).isPresent(), is(false));
+        assertThat(easterSundays.getDaysInYear(Year.of(2038)).size(), is(364));
+    }
+
+    @Test
+    public void rolledToNextWeekday_acrossYearEnd() {
+
+        final RuleBasedCalendar newYear = new RuleBasedCalendar("new year", DayRule.allDays(),
+                HolidayRule.fixed(DECEMBER, 31).rolledToNextWeekday());
+        assertThat(newYear.getDay(of(2016, 12, 31)).isPresent(), is(true));
+        assertThat(newYear.getDay(of(2017, 1, 2)).isPresent(), is(false));
+    }
+
+    @Test
+    public void rolledToNextWeekday_collidingSubstitutes() {
+
+        final LocalDateCalendar christmas2021 = calendar.toLocalDateCalendar(of(2021, 12, 31), 31);
+        assertThat(christmas2021.getDaysBetween(of(2021, 12, 24), of(2021, 12, 29)),
+                equalTo(Arrays.asList(of(2021, 12, 29), of(2021, 12, 24))));
+        final LocalDateCalendar christmas2022 = calendar.toLocalDateCalendar(of(2022, 12, 31), 31);
+        assertThat(christmas2022.getDaysBetween(of(2022, 12, 23), of(2022, 12, 28)),
+                equalTo(Arrays.asList(of(2022, 12, 28), of(2022, 12, 23))));
+    }
+
+    @Test
+    public void rolledToNextWeekday_suppliedWeekend() {
+
+        final DayRule sundayToThursday = date -> date.getDayOfWeek() != FRIDAY && date.getDayOfWeek() != SATURDAY;
+        final RuleBasedCalendar christmas = new RuleBasedCalendar("christmas", DayRule.allDays(),
+                HolidayRule.fixed(DECEMBER, 25).rolledToNextWeekday(sundayToThursday));
+        assertThat(christmas.getDay(of(2020, 12, 25)).isPresent(), is(true));
+        assertThat(christmas.getDay(of(2020, 12, 27)).isPresent(), is(false));
+    }
+
+    @Test
+    public void fixed_leapDay() {
+
+        final RuleBasedCalendar leapDay = new RuleBasedCalendar("leap", DayRule.allDays(),
+                HolidayRule.fixed(FEBRUARY, 29));
+        assertThat(leapDay.getDaysInYear(Year.of(2019)).size(), is(365));
+        assertThat(leapDay.getDaysInYear(Year.of(2020)).size(), is(365));
+    }
+
+    @Test
+    public void unboundedRange_cachedYearsBounded() {
+
+        calendar = new RuleBasedCalendar("england", DayRule.weekdays(),
+                Collections.singletonList(HolidayRule.fixed(DECEMBER, 25)), 4);
+        assertThat(calendar.getDay(of(1600, 12, 25)).isPresent(), is(false));
+        assertThat(calendar.getDay(of(9999, 12, 24)).isPresent(), is(true));
+        assertThat(calendar.countIncludedDaysBetween(of(2000, 1, 1), of(2100, 1, 1)),
+                is(new LocalDateCalendar(of(2099, 12, 31), "century", 36525).removeWeekendDays().getAllDates()
+                        .size() - 72));
+        assertThat(calendar.cachedYears(), is(4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixed_invalidDay() {
+        HolidayRule.fixed(FEBRUARY, 30);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void nthDayOfWeek_zeroOrdinal() {
+        HolidayRule.nthDayOfWeek(0, MONDAY, MAY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toLocalDateCalendar_outsideCalendarRange() {
+        calendar.toLocalDateCalendar(of(1583, 1, 10), 20);
+    }
+}
@@ -0,0 +1,104 @@
+package com.gds.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.time.LocalDate.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Matt Vickery (matt.d.vickery@greendotsoftware.co.uk)
+ * @since 16/10/2026
+ */
+public class SettlementEngineTest {
+
+    private LocalDateCalendar london;
+    private LocalDateCalendar newYork;
+    private SettlementEngine engine;
+
+    @Before
+    public void before() {
+
+        london = new LocalDateCalendar(of(2019, 12, 31), "london", 365 * 3).removeWeekendDays()
+                .removeAll(Arrays.asList(of(2018, 12, 25), of(2018, 12, 26), of(2019, 1, 1)));
+        newYork = new LocalDateCalendar(of(2020, 6, 30), "new york", 365 * 3).removeWeekendDays()
+                .removeAll(Arrays.asList(of(2018, 12, 25), of(2019, 1, 1), of(2019, 1, 21)));
+        engine = new SettlementEngine(Arrays.asList(Collections.singletonList(london),
+                Arrays.asList(london, newYork)));
+    }
+
+    @Test
+    public void settlementDate_jointCalendars() {
+
+        assertThat(engine.settlementDate(of(2018, 12, 24), 2, 0), is(Optional.of(of(2018, 12, 28))));
+        assertThat(engine.settlementDate(of(2018, 12, 24), 2, 1), is(Optional.of(of(2018, 12, 28))));
+        assertThat(engine.settlementDate(of(2019, 1, 17), 2, 0), is(Optional.of(of(2019, 1, 21))));
+        assertThat(engine.settlementDate(of(2019, 1, 17), 2, 1), is(Optional.of(of(2019, 1, 22))));
+        assertThat(engine.settlementDate(of(2018, 12, 29), 0, 1), is(Optional.of(of(2018, 12, 31))));
+        assertThat(engine.settlementDate(of(2018, 12, 31), 0, 1), is(Optional.of(of(2018, 12, 31))));
+        assertThat(engine.settlementDate(of(2019, 1, 2), -1, 1), is(Optional.of(of(2018, 12, 31))));
+    }
+
+    @Test
+    public void settlementDate_outsideCalendarRange() {
+
+        assertThat(engine.settlementDate(of(2019, 12, 31), 1, 1), is(Optional.empty()));
+        assertThat(engine.settlementDate(of(2020, 1, 2), 1, 1), is(Optional.empty()));
+        assertThat(engine.settlementDate(of(2016, 12, 30), 1, 1), is(Optional.empty()));
+    }
+
+    @Test
+    public void settle_matchesCompositeCalendar() {
+
+        final CompositeCalendar joint = CompositeCalendar.allOf("joint", london, newYork);
+        final int trades = SettlementEngine.MIN_SPLIT_TRADES * 5 + 7;
+        final long[] tradeDays = new long[trades];
+        final int[] lags = new int[trades];
+        final int[] calendarSets = new int[trades];
+        final Random random = new Random(19);
+        for (int index = 0; index < trades; index++) {
+            tradeDays[index] = joint.getStartDate().toEpochDay() + random.nextInt(365 * 3);
+            lags[index] = 1 + random.nextInt(5);
+            calendarSets[index] = random.nextInt(2);
+        }
+        final long[] settlementDays = new long[trades];
+        int unsettled = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            unsettled = engine.settle(new ForkJoinPool(4), tradeDays, lags, calendarSets, settlementDays);
+            for (int index = 0; index < trades; index++) {
+                final LocalDateCalendarView calendar = calendarSets[index] == 0 ? london : joint;
+                final long tradeDay = tradeDays[index];
+                final long expected = tradeDay > calendar.getEndDate().toEpochDay()
+                        ? LocalDateCalendarView.NO_DAY : calendar.plusIncluded(tradeDay, lags[index]);
+                assertThat(settlementDays[index], is(expected));
+            }
+        }
+        assertThat(unsettled > 0, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void settle_unknownCalendarSet() {
+        engine.settle(new long[]{of(2019, 1, 2).toEpochDay()}, new int[]{2}, new int[]{2}, new long[1]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void settle_shortColumns() {
+        engine.settle(new long[2], new int[2], new int[2], new long[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_emptyCalendarSet() {
+
+        final List<List<LocalDateCalendar>> calendarSets = Collections.singletonList(Collections.emptyList());
+        new SettlementEngine(calendarSets);
+    }
+}